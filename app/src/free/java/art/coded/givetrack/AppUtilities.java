@@ -1,11 +1,10 @@
 package art.coded.givetrack;
 
-import android.content.ContentValues;
 import android.content.SharedPreferences;
 import android.database.Cursor;
-import android.database.DatabaseUtils;
 import android.os.Parcelable;
 
+import art.coded.givetrack.data.entry.CursorMapper;
 import art.coded.givetrack.data.entry.Entry;
 import art.coded.givetrack.data.entry.User;
 
@@ -20,8 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import timber.log.Timber;
-
 public final class AppUtilities {
 
     public static final NumberFormat CURRENCY_FORMATTER = NumberFormat.getCurrencyInstance();
@@ -84,26 +81,17 @@ public final class AppUtilities {
         return user;
     }
 
-    public static <T extends Entry> void cursorRowToEntry(Cursor cursor, T entry) {
-        ContentValues values = new ContentValues();
-        DatabaseUtils.cursorRowToContentValues(cursor, values);
-        entry.fromContentValues(values);
+    /**
+     * Writes the current row of the {@link Cursor} to the entry; prefer a single {@link CursorMapper}
+     * over calling this for each row, as it resolves column indexes on every call.
+     */
+    @SuppressWarnings("unchecked") public static <T extends Entry> void cursorRowToEntry(Cursor cursor, T entry) {
+        CursorMapper.of((Class<T>) entry.getClass(), cursor).read(cursor, entry);
     }
 
     public static <T extends Entry> List<T> getEntryListFromCursor(Cursor cursor, Class<T> type) {
-        List<T> entries = new ArrayList<>();
-        if (cursor == null || !cursor.moveToFirst()) return entries;
-        entries.clear();
-        int i = 0;
-        do {
-            try {
-                entries.add(type.newInstance());
-            } catch (InstantiationException | IllegalAccessException e) {
-                Timber.e(e);
-            }
-            cursorRowToEntry(cursor, entries.get(i++));
-        } while (cursor.moveToNext());
-        return entries;
+        if (cursor == null) return new ArrayList<>();
+        return CursorMapper.of(type, cursor).mapAll(cursor);
     }
 
     public static boolean dateIsCurrent(long dateStamp) {
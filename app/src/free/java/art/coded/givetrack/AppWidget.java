@@ -12,6 +12,7 @@ import android.widget.RemoteViews;
 import android.widget.RemoteViewsService;
 
 import art.coded.givetrack.data.DatabaseContract;
+import art.coded.givetrack.data.entry.CursorMapper;
 import art.coded.givetrack.data.entry.Target;
 import art.coded.givetrack.view.HomeActivity;
 import art.coded.givetrack.view.SpawnActivity;
@@ -84,6 +85,7 @@ public class AppWidget extends AppWidgetProvider {
 
         Context mContext;
         Cursor mCursor;
+        CursorMapper<Target> mMapper; // Resolves column indexes of mCursor once per query
 
         /**
          * Constructs an instance with the Application {@link Context} used to query the {@link android.content.ContentProvider}.
@@ -101,7 +103,8 @@ public class AppWidget extends AppWidgetProvider {
             if (mCursor != null) mCursor.close();
             FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
             mCursor = mContext.getContentResolver().query(DatabaseContract.CompanyEntry.CONTENT_URI_TARGET,
-                    null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { user != null ? user.getUid() : ""}, null);
+                    DatabaseContract.CompanyEntry.PROJECTION_WIDGET, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { user != null ? user.getUid() : ""}, null);
+            if (mCursor != null) mMapper = CursorMapper.of(Target.class, mCursor);
             mContext.getContentResolver().notifyChange(DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, null);
             Binder.restoreCallingIdentity(token);
         }
@@ -114,7 +117,7 @@ public class AppWidget extends AppWidgetProvider {
             if (mCursor == null /*|| mCursor.getCount() == 0*/) return null;
             mCursor.moveToPosition(position);
             Target target = Target.getDefault();
-            AppUtilities.cursorRowToEntry(mCursor, target);
+            mMapper.read(mCursor, target);
 
             String name = target.getName();
             if (name.length() > 11) {
@@ -24,7 +24,10 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 import androidx.annotation.NonNull;
@@ -77,6 +80,41 @@ final class DataUtilities {
         }
     }
 
+    /**
+     * Encodes the locations and values of a remote update as a JSON object to be queued in the outbox;
+     * {@code null} values, which remove their locations, are kept as JSON nulls.
+     */
+    static String mapToOutboxChanges(Map<String, Object> update) {
+        JSONObject changes = new JSONObject();
+        try {
+            for (Map.Entry<String, Object> location : update.entrySet()) {
+                changes.put(location.getKey(), JSONObject.wrap(location.getValue()));
+            }
+        } catch (JSONException e) { Timber.e(e); }
+        return changes.toString();
+    }
+
+    /**
+     * Decodes the locations and values of a remote update queued in the outbox by {@link #mapToOutboxChanges(Map)}.
+     */
+    static Map<String, Object> outboxChangesToMap(String changes) {
+        try { return jsonObjectToMap(new JSONObject(changes)); }
+        catch (JSONException e) { Timber.e(e); }
+        return new HashMap<>();
+    }
+
+    private static Map<String, Object> jsonObjectToMap(JSONObject object) {
+        Map<String, Object> map = new HashMap<>();
+        Iterator<String> keys = object.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = object.opt(key);
+            if (value == JSONObject.NULL) value = null;
+            else if (value instanceof JSONObject) value = jsonObjectToMap((JSONObject) value);
+            map.put(key, value);
+        } return map;
+    }
+
     /**
      * Builds the proper {@link Uri} for requesting charity data.
      * Users must register and reference a unique API key.
@@ -13,20 +13,26 @@ public final class DatabaseContract {
     static final String PATH_TARGET_TABLE = "target.table";
     static final String PATH_RECORD_TABLE = "record.table";
     static final String PATH_USER_TABLE = "user.table";
+    static final String PATH_OUTBOX_TABLE = "outbox.table";
+    static final String PATH_AGGREGATE = "aggregate";
 
     private static final String SCHEME = "content";
-    private static final Uri BASE_URI = Uri.parse(SCHEME + "://" + AUTHORITY);
+    static final Uri BASE_URI = Uri.parse(SCHEME + "://" + AUTHORITY);
 
     public static final int LOADER_ID_SPAWN = 1;
     public static final int LOADER_ID_TARGET = 2;
     public static final int LOADER_ID_RECORD = 3;
     public static final int LOADER_ID_USER = 4;
+    public static final int LOADER_ID_AGGREGATE = 5;
+
+    public static final String PARAM_LIMIT = "limit"; // Maximum number of rows returned from a table
 
     public static final class CompanyEntry implements BaseColumns {
 
         static final String TABLE_NAME_SPAWN = "spawn";
         static final String TABLE_NAME_TARGET = "target";
         static final String TABLE_NAME_RECORD = "record";
+        static final String TABLE_NAME_COMPANY = "company"; // Profiles referenced by user and EIN from targets and records
         
         public static final Uri CONTENT_URI_SPAWN =
                 BASE_URI.buildUpon().appendPath(PATH_SPAWN_TABLE).build();
@@ -55,6 +61,43 @@ public final class DatabaseContract {
         public static final String COLUMN_FREQUENCY = "frequency";
         public static final String COLUMN_MEMO = "memo";
         public static final String COLUMN_TIME = "time";
+        public static final String COLUMN_MODIFIED = "modified";
+
+        // Columns describing the company of an EIN, held once in the company table rather than by each target and record
+        static final String[] COLUMNS_PROFILE = {
+                COLUMN_NAME, COLUMN_LOCATION_STREET, COLUMN_LOCATION_DETAIL, COLUMN_LOCATION_CITY, COLUMN_LOCATION_STATE,
+                COLUMN_LOCATION_ZIP, COLUMN_HOMEPAGE_URL, COLUMN_NAVIGATOR_URL, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_SOCIAL };
+
+        // Columns read by consumers neither displaying nor writing back whole company profiles;
+        // entries mapped from these hold their defaults in every other field and are not to be persisted
+        public static final String[] PROJECTION_ID = { COLUMN_UID, COLUMN_STAMP };
+        public static final String[] PROJECTION_IMPACT = { COLUMN_UID, COLUMN_EIN, COLUMN_STAMP, COLUMN_IMPACT };
+        public static final String[] PROJECTION_REMIT = { COLUMN_UID, COLUMN_EIN, COLUMN_STAMP, COLUMN_NAME, COLUMN_PERCENT };
+        public static final String[] PROJECTION_WIDGET = { COLUMN_UID, COLUMN_STAMP, COLUMN_NAME, COLUMN_PERCENT, COLUMN_IMPACT };
+    }
+
+    /**
+     * Defines the totals of records grouped by time interval and by name.
+     * Interval rows hold the number of intervals before the current one in {@link #COLUMN_BUCKET};
+     * name rows leave it {@code null} and total records of the graph type within the last seven intervals.
+     */
+    public static final class AggregateEntry {
+
+        public static final Uri CONTENT_URI_RECORD_AGGREGATE =
+                CompanyEntry.CONTENT_URI_RECORD.buildUpon().appendPath(PATH_AGGREGATE).build();
+
+        public static final String PARAM_INTERVAL = "interval"; // Calendar.YEAR, MONTH or WEEK_OF_YEAR
+        public static final String PARAM_GRAPH_TYPE = "graphType"; // 0 for all types or type + 1
+        public static final String PARAM_HOME_TYPE = "homeType"; // 0 for all types or type + 1
+        public static final String PARAM_SINCE = "since";
+
+        public static final String COLUMN_BUCKET = "bucket";
+        public static final String COLUMN_NAME = "name";
+        public static final String COLUMN_TOTAL = "total"; // Impact of records of the graph type
+        public static final String COLUMN_COUNT = "count"; // Number of records of the graph type
+        public static final String COLUMN_HOME_TOTAL = "homeTotal"; // Impact of records of the home type
+        public static final String COLUMN_TRACKED = "tracked"; // Impact of records of the home type since the given time
+        public static final String COLUMN_FREQUENCY = "frequency"; // Number of records of any type
     }
 
     public static final class UserEntry implements BaseColumns {
@@ -103,4 +146,19 @@ public final class DatabaseContract {
         public static final String COLUMN_USER_STAMP = "userStamp";
         public static final String COLUMN_USER_CREDIT = "userCredit";
     }
+
+    /**
+     * Defines remote updates committed locally and queued for delivery by {@link OutboxWorker}.
+     * Each row holds one multi-location update as a JSON object of remote paths to values,
+     * with {@code null} values removing their paths; rows are delivered in order of {@link #_ID}.
+     */
+    public static final class OutboxEntry implements BaseColumns {
+        static final String TABLE_NAME_OUTBOX = "outbox";
+
+        public static final Uri CONTENT_URI_OUTBOX =
+                BASE_URI.buildUpon().appendPath(PATH_OUTBOX_TABLE).build();
+
+        public static final String COLUMN_CHANGES = "changes";
+        public static final String COLUMN_QUEUED = "queued";
+    }
 }
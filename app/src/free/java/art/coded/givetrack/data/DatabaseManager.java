@@ -1,15 +1,15 @@
 package art.coded.givetrack.data;
 
-import android.app.IntentService;
-import android.content.Intent;
 import android.content.Context;
 import android.preference.PreferenceManager;
 
 import androidx.core.util.Pair;
 
 import art.coded.calibrater.Calibrater;
-import art.coded.givetrack.AppExecutors;
+import art.coded.calibrater.Rounder;
 import art.coded.givetrack.AppUtilities;
+import art.coded.givetrack.data.CommandBus.Command;
+import art.coded.givetrack.data.CommandBus.Lane;
 import art.coded.givetrack.data.entry.Company;
 import art.coded.givetrack.data.entry.Spawn;
 import art.coded.givetrack.data.entry.Target;
@@ -20,554 +20,438 @@ import art.coded.rateraid.Rateraid;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
-import java.util.concurrent.Executor;
 
 /**
- * Interfaces with data requests from the UI thread and delegates them to a separate handler thread.
+ * Interfaces with data requests from the UI thread and delegates them to lanes of the {@link CommandBus}.
+ * Entries are copied when posted so that callers may continue to modify their own instances.
+ * Consecutive fetches share a single run and consecutive updates of the same entries are
+ * superseded by the latest, whose commands are cancelled.
  */
-public final class DatabaseManager extends IntentService {
-
-    private static final Executor DISK_IO = AppExecutors.getInstance().getDiskIO();
-    private static final Executor NETWORK_IO = AppExecutors.getInstance().getNetworkIO();
-    private static final Executor MAIN_THREAD = AppExecutors.getInstance().getMainThread();
+public final class DatabaseManager {
 
     private static final String ACTION_FETCH_SPAWN = "art.coded.givetrack.data.action.FETCH_SPAWN";
     private static final String ACTION_FETCH_TARGET = "art.coded.givetrack.data.action.FETCH_TARGET";
     private static final String ACTION_FETCH_RECORD = "art.coded.givetrack.data.action.FETCH_RECORD";
     private static final String ACTION_FETCH_USER = "art.coded.givetrack.data.action.FETCH_USER";
-    private static final String ACTION_REMOVE_SPAWN = "art.coded.givetrack.data.action.REMOVE_SPAWN";
-    private static final String ACTION_REMOVE_TARGET = "art.coded.givetrack.data.action.REMOVE_TARGET";
-    private static final String ACTION_REMOVE_RECORD = "art.coded.givetrack.data.action.REMOVE_RECORD";
-    private static final String ACTION_REMOVE_USER = "art.coded.givetrack.data.action.REMOVE_USER";
-    private static final String ACTION_RESET_SPAWN = "art.coded.givetrack.data.action.RESET_SPAWN";
-    private static final String ACTION_RESET_TARGET = "art.coded.givetrack.data.action.RESET_TARGET";
-    private static final String ACTION_RESET_RECORD = "art.coded.givetrack.data.action.RESET_RECORD";
-    private static final String ACTION_RESET_USER = "art.coded.givetrack.data.action.RESET_USER";
-    private static final String ACTION_TARGET_SPAWN = "art.coded.givetrack.data.action.GIVE_SPAWN";
-    private static final String ACTION_UNTARGET_COMPANY = "art.coded.givetrack.data.action.UNTARGET_COMPANY";
-    private static final String ACTION_RECORD_TARGET = "art.coded.givetrack.data.action.RECORD_TARGET";
-    private static final String ACTION_TARGET_RECORD = "art.coded.givetrack.data.action.TARGET_RECORD";
     private static final String ACTION_UPDATE_TARGET = "art.coded.givetrack.data.action.UPDATE_TARGET";
-    private static final String ACTION_UPDATE_CONTACT = "art.coded.givetrack.data.action.UPDATE_CONTACT";
+    private static final String ACTION_UPDATE_PERCENT = "art.coded.givetrack.data.action.UPDATE_PERCENT";
     private static final String ACTION_UPDATE_RECORD = "art.coded.givetrack.data.action.UPDATE_RECORD";
     private static final String ACTION_UPDATE_USER = "art.coded.givetrack.data.action.UPDATE_USER";
-    private static final String ACTION_RESET_DATA = "art.coded.givetrack.data.action.RESET_DATA";
-    private static final String EXTRA_API_REQUEST = "art.coded.givetrack.data.extra.API_REQUEST";
-    private static final String EXTRA_ITEM_VALUES = "art.coded.givetrack.data.extra.ITEM_VALUES";
-    private static final String EXTRA_LIST_VALUES = "art.coded.givetrack.data.extra.LIST_VALUES";
-    private static final String EXTRA_ITEM_ID = "art.coded.givetrack.data.extra.ITEM_ID";
 
+    private static int sUpdateTargetCount = -1; // Targets of the update last posted, guarded by the class
+
+    private DatabaseManager() {}
 
     /**
-     * Creates an {@link IntentService} instance.
+     * Posts action FetchSpawn to the network lane, joining any fetch of spawns still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public DatabaseManager() {
-        super(DatabaseManager.class.getSimpleName());
+    public static Command startActionFetchSpawn(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.postOnce(Lane.NETWORK, CommandBus.PRIORITY_DEFAULT, ACTION_FETCH_SPAWN, () -> handleActionFetchSpawn(appContext));
     }
 
     /**
-     * Starts this service to perform action FetchSpawn with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action FetchTarget to the sync lane, joining any fetch of targets still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionFetchSpawn(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_FETCH_SPAWN);
-        context.startService(intent);
+    public static Command startActionFetchTarget(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_DEFAULT, ACTION_FETCH_TARGET, () -> handleActionFetchTarget(appContext));
     }
 
     /**
-     * Starts this service to perform action FetchTarget with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action FetchRecord to the sync lane, joining any fetch of records still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionFetchTarget(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_FETCH_TARGET);
-        context.startService(intent);
+    public static Command startActionFetchRecord(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_DEFAULT, ACTION_FETCH_RECORD, () -> handleActionFetchRecord(appContext));
     }
 
     /**
-     * Starts this service to perform action FetchRecord with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action FetchUser to the sync lane ahead of other synchronization, joining any fetch of users still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionFetchRecord(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_FETCH_RECORD);
-        context.startService(intent);
+    public static Command startActionFetchUser(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_HIGH, ACTION_FETCH_USER, () -> handleActionFetchUser(appContext));
     }
 
     /**
-     * Starts this service to perform action FetchUser with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action TargetRecord to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionFetchUser(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_FETCH_USER);
-        context.startService(intent);
+    public static Command startActionTargetRecord(Context context, Record record) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        Record recordCopy = record.clone();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionTargetRecord(appContext, recordCopy));
     }
 
     /**
-     * Starts this service to perform action TargetRecord with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action UpdateTarget to the interactive lane, superseding any update of as many targets still waiting.
+     * Updates changing the count of targets are not superseded, as the removal of a target is inferred
+     * from an update one target shorter than the persisted list.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionTargetRecord(Context context, Record record) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_TARGET_RECORD);
-        intent.putExtra(EXTRA_ITEM_VALUES, record);
-        context.startService(intent);
+    public static Command startActionUpdateTarget(Context context, Target... target) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        Target[] targetCopy = copyOf(target);
+        Runnable action = () -> handleActionUpdateTarget(appContext, targetCopy);
+        synchronized (DatabaseManager.class) {
+            boolean recounted = targetCopy.length != sUpdateTargetCount;
+            sUpdateTargetCount = targetCopy.length;
+            // Unkeyed so that waiting updates of the previous count run before it rather than being superseded
+            if (recounted) return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, action);
+            return CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, ACTION_UPDATE_TARGET, action);
+        }
     }
 
     /**
-     * Starts this service to perform action UpdateTargetwith the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action UpdatePercent to the interactive lane, superseding any update of percentages still waiting.
+     * Only the ID and percentage of each target are captured, as no other field is written.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context or entries
      */
-    public static void startActionUpdateTarget(Context context, Target... target) {
-        // Update from list
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_UPDATE_TARGET);
-        intent.putExtra(EXTRA_ITEM_VALUES, target);
-        if (target.length == 1) intent.putExtra(EXTRA_ITEM_VALUES, target[0]);
-        else intent.putExtra(EXTRA_LIST_VALUES, target);
-        context.startService(intent);
+    public static Command startActionUpdatePercent(Context context, Target... targets) {
+        if (context == null || targets.length == 0) return null;
+        Context appContext = context.getApplicationContext();
+        String uid = targets[0].getUid();
+        String[] ids = new String[targets.length];
+        double[] percents = new double[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            ids[i] = targets[i].getId();
+            percents[i] = targets[i].getPercent();
+        }
+        return CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, ACTION_UPDATE_PERCENT,
+                () -> handleActionUpdatePercent(appContext, uid, ids, percents));
     }
 
     /**
-     * Starts this service to perform action RemoveTarget with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action RemoveTarget to the interactive lane.
+     * Nothing is posted without entries, as removal of no entries would otherwise remove all.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context or entries
      */
-    public static void startActionRemoveTarget(Context context, Target... targets) {
-        // Update from list
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_REMOVE_TARGET);
-        if (targets.length > 1) intent.putExtra(EXTRA_LIST_VALUES, targets);
-        else intent.putExtra(EXTRA_ITEM_VALUES, targets[0]);
-        context.startService(intent);
+    public static Command startActionRemoveTarget(Context context, Target... targets) {
+        if (context == null || targets.length == 0) return null;
+        Context appContext = context.getApplicationContext();
+        Target[] targetsCopy = copyOf(targets);
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionRemoveTarget(appContext, targetsCopy));
     }
 
     /**
-     * Starts this service to perform action RecordTarget with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action RecordTarget to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionRecordTarget(Context context, Target... target) {
-        if (context == null) return;
-        // Update from list
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RECORD_TARGET);
-        if (target.length > 1) intent.putExtra(EXTRA_LIST_VALUES, target);
-        intent.putExtra(EXTRA_ITEM_VALUES, target[0]);
-        context.startService(intent);
+    public static Command startActionRecordTarget(Context context, Target... target) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        Target[] targetCopy = copyOf(target);
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionRecordTarget(appContext, targetCopy));
     }
 
     /**
-     * Starts this service to perform action GiveSpawn with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action TargetSpawn to the network lane.
+     * The returned command completes once the enriched target is posted to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionTargetSpawn(Context context, Spawn spawn) {
-        // Update from element
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_TARGET_SPAWN);
-        intent.putExtra(EXTRA_ITEM_VALUES, spawn);
-        context.startService(intent);
+    public static Command startActionTargetSpawn(Context context, Spawn spawn) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        Spawn spawnCopy = spawn.clone();
+        return CommandBus.post(Lane.NETWORK, CommandBus.PRIORITY_HIGH, () -> handleActionTargetSpawn(appContext, spawnCopy));
     }
 
     /**
-     * Starts this service to perform action UntargetCompany with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action UntargetCompany to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionUntargetCompany(Context context, Company company) {
-        // Update from element
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_UNTARGET_COMPANY);
-        intent.putExtra(EXTRA_ITEM_VALUES, company.getEin());
-        context.startService(intent);
+    public static Command startActionUntargetCompany(Context context, Company company) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        String ein = company.getEin();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionUntargetCompany(appContext, ein));
     }
 
     /**
-     * Starts this service to perform action RemoveSpawn with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action RemoveSpawn to the interactive lane.
+     * Nothing is posted without entries, as removal of no entries would otherwise remove all.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context or entries
      */
-    public static void startActionRemoveSpawn(Context context, Spawn... spawns) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_REMOVE_SPAWN);
-        if (spawns.length > 1) intent.putExtra(EXTRA_LIST_VALUES, spawns);
-        else intent.putExtra(EXTRA_ITEM_VALUES, spawns[0]);
-        context.startService(intent);
+    public static Command startActionRemoveSpawn(Context context, Spawn... spawns) {
+        if (context == null || spawns.length == 0) return null;
+        Context appContext = context.getApplicationContext();
+        Spawn[] spawnsCopy = copyOf(spawns);
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionRemoveSpawn(appContext, spawnsCopy));
     }
 
     /**
-     * Starts this service to perform action RemoveRecord with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action RemoveRecord to the interactive lane.
+     * Nothing is posted without entries, as removal of no entries would otherwise remove all.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context or entries
      */
-    public static void startActionRemoveRecord(Context context, Record... record) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_REMOVE_RECORD);
-        if (record.length > 1) intent.putExtra(EXTRA_LIST_VALUES, record);
-        else intent.putExtra(EXTRA_ITEM_VALUES, record[0]);
-        context.startService(intent);
+    public static Command startActionRemoveRecord(Context context, Record... record) {
+        if (context == null || record.length == 0) return null;
+        Context appContext = context.getApplicationContext();
+        Record[] recordCopy = copyOf(record);
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionRemoveRecord(appContext, recordCopy));
     }
 
     /**
-     * Starts this service to perform action RemoveUser with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action RemoveUser to the interactive lane.
+     * Nothing is posted without entries, as removal of no entries would otherwise remove all.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context or entries
      */
-    public static void startActionRemoveUser(Context context, User... user) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_REMOVE_USER);
-        if (user.length > 1) intent.putExtra(EXTRA_LIST_VALUES, user);
-        else intent.putExtra(EXTRA_ITEM_VALUES, user[0]);
-        context.startService(intent);
+    public static Command startActionRemoveUser(Context context, User... user) {
+        if (context == null || user.length == 0) return null;
+        Context appContext = context.getApplicationContext();
+        User[] userCopy = copyOf(user);
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionRemoveUser(appContext, userCopy));
     }
 
     /**
-     * Starts this service to perform action ResetSpawn with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action ResetSpawn to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionResetSpawn(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RESET_SPAWN);
-        context.startService(intent);
+    public static Command startActionResetSpawn(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionResetSpawn(appContext));
     }
 
     /**
-     * Starts this service to perform action ResetTargetwith the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action ResetTarget to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionResetTarget(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RESET_TARGET);
-        context.startService(intent);
+    public static Command startActionResetTarget(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionResetTarget(appContext));
     }
 
     /**
-     * Starts this service to perform action ResetRecord with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action ResetRecord to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionResetRecord(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RESET_RECORD);
-        context.startService(intent);
+    public static Command startActionResetRecord(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionResetRecord(appContext));
     }
 
     /**
-     * Starts this service to perform action ResetUser with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action ResetUser to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionResetUser(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RESET_USER);
-        context.startService(intent);
+    public static Command startActionResetUser(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionResetUser(appContext));
     }
 
     /**
-     * Starts this service to perform action UpdateRecord with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action UpdateRecord to the interactive lane, superseding any update of the same records still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionUpdateRecord(Context context, Record... record) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_UPDATE_RECORD);
-        intent.putExtra(EXTRA_ITEM_VALUES, record);
-        if (record.length > 1) intent.putExtra(EXTRA_LIST_VALUES, record);
-        else intent.putExtra(EXTRA_ITEM_VALUES, record[0]);
-
-        context.startService(intent);
+    public static Command startActionUpdateRecord(Context context, Record... record) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        Record[] recordCopy = copyOf(record);
+        return CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, keyOf(ACTION_UPDATE_RECORD, record),
+                () -> handleActionUpdateRecord(appContext, recordCopy));
     }
 
     /**
-     * Starts this service to perform action UpdateUser with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action UpdateUser to the interactive lane, superseding any update of the same users still waiting.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionUpdateUser(Context context, User... user) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_UPDATE_USER);
-        intent.putExtra(EXTRA_ITEM_VALUES, user);
-        if (user.length > 1) intent.putExtra(EXTRA_LIST_VALUES, user);
-        else intent.putExtra(EXTRA_ITEM_VALUES, user[0]);
-
-        context.startService(intent);
+    public static Command startActionUpdateUser(Context context, User... user) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        User[] userCopy = copyOf(user);
+        return CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, keyOf(ACTION_UPDATE_USER, user),
+                () -> handleActionUpdateUser(appContext, userCopy));
     }
 
     /**
-     * Starts this service to perform action ResetData with the given parameters.
-     * If the service is already performing a task this action will be queued.
-     *
-     * @see IntentService
+     * Posts action ResetData to the interactive lane.
+     * @return {@link Command} with which to cancel, await or observe the action; null without a context
      */
-    public static void startActionResetData(Context context) {
-        if (context == null) return;
-        Intent intent = new Intent(context, DatabaseManager.class);
-        intent.setAction(ACTION_RESET_DATA);
-        context.startService(intent);
+    public static Command startActionResetData(Context context) {
+        if (context == null) return null;
+        Context appContext = context.getApplicationContext();
+        return CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionResetData(appContext));
+    }
+    private static String keyOf(String action, Record[] records) {
+        StringBuilder key = new StringBuilder(action);
+        for (Record record : records) key.append('/').append(record.getStamp());
+        return key.toString();
+    }
+
+    private static String keyOf(String action, User[] users) {
+        StringBuilder key = new StringBuilder(action);
+        for (User user : users) key.append('/').append(user.getUid());
+        return key.toString();
+    }
+
+    private static Spawn[] copyOf(Spawn[] spawns) {
+        Spawn[] copies = new Spawn[spawns.length];
+        for (int i = 0; i < spawns.length; i++) copies[i] = spawns[i].clone();
+        return copies;
+    }
+
+    private static Target[] copyOf(Target[] targets) {
+        Target[] copies = new Target[targets.length];
+        for (int i = 0; i < targets.length; i++) copies[i] = targets[i].clone();
+        return copies;
+    }
+
+    private static Record[] copyOf(Record[] records) {
+        Record[] copies = new Record[records.length];
+        for (int i = 0; i < records.length; i++) copies[i] = records[i].clone();
+        return copies;
+    }
+
+    private static User[] copyOf(User[] users) {
+        User[] copies = new User[users.length];
+        for (int i = 0; i < users.length; i++) copies[i] = users[i].clone();
+        return copies;
     }
 
     /**
-     * Syncs data inside a worker thread on requests to process {@link Intent}
-     * Enqueues and handles subsequent requests sequentially.
-     *
-     * @param intent launches this {@link IntentService}.
+     * Handles action FetchSpawn on the network lane.
      */
-    @Override
-    protected void onHandleIntent(Intent intent) {
-        if (intent == null || intent.getAction() == null) return;
-        DISK_IO.execute(() -> {
-            final String action = intent.getAction();
-            switch (action) {
-                case ACTION_FETCH_SPAWN:
-                    handleActionFetchSpawn();
-                    break;
-                case ACTION_FETCH_TARGET:
-                    handleActionFetchTarget();
-                    break;
-                case ACTION_FETCH_RECORD:
-                    handleActionFetchRecord();
-                    break;
-                case ACTION_FETCH_USER:
-                    handleActionFetchUser();
-                    break;
-                case ACTION_TARGET_SPAWN:
-                    handleActionTargetSpawn(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_TARGET_RECORD:
-                    handleActionTargetRecord(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_UNTARGET_COMPANY:
-                    handleActionUntargetCompany(intent.getStringExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_RECORD_TARGET:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionRecordTarget(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Target.class));
-                    else handleActionRecordTarget(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_REMOVE_SPAWN:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionRemoveSpawn(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Spawn.class));
-                    else handleActionRemoveSpawn(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_REMOVE_TARGET:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionRemoveTarget(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Target.class));
-                    else handleActionRemoveTarget(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_REMOVE_RECORD:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionRemoveRecord(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Record.class));
-                    else handleActionRemoveRecord(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_REMOVE_USER:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionRemoveUser(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), User.class));
-                    else handleActionRemoveUser(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_RESET_SPAWN:
-                    handleActionResetSpawn();
-                    break;
-                case ACTION_RESET_TARGET:
-                    handleActionResetTarget();
-                    break;
-                case ACTION_RESET_RECORD:
-                    handleActionResetRecord();
-                    break;
-                case ACTION_RESET_USER:
-                    handleActionResetUser();
-                    break;
-                case ACTION_UPDATE_CONTACT:
-                    break;
-                case ACTION_UPDATE_TARGET:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionUpdateTarget(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Target.class));
-                    else handleActionUpdateTarget(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_UPDATE_RECORD:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionUpdateRecord(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), Record.class));
-                    else handleActionUpdateRecord(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_UPDATE_USER:
-                    if (intent.hasExtra(EXTRA_LIST_VALUES))
-                        handleActionUpdateUser(AppUtilities.getTypedArrayFromParcelables(intent.getParcelableArrayExtra(EXTRA_LIST_VALUES), User.class));
-                    else handleActionUpdateUser(intent.getParcelableExtra(EXTRA_ITEM_VALUES));
-                    break;
-                case ACTION_RESET_DATA:
-                    handleActionResetData();
-            }
-        });
-    }
+    private static void handleActionFetchSpawn(Context context) { DatabaseAccessor.fetchSpawn(context); }
 
     /**
-     * Handles action FetchSpawn on the service worker thread.
+     * Handles action FetchTarget on the sync lane.
      */
-    private void handleActionFetchSpawn() { NETWORK_IO.execute(() -> DatabaseAccessor.fetchSpawn(this)); }
+    private static void handleActionFetchTarget(Context context) { DatabaseAccessor.fetchTarget(context); }
 
     /**
-     * Handles action FetchTarget on the service worker thread.
+     * Handles action FetchRecord on the sync lane.
      */
-    private void handleActionFetchTarget() { DatabaseAccessor.fetchTarget(this); }
+    private static void handleActionFetchRecord(Context context) { DatabaseAccessor.fetchRecord(context); }
 
     /**
-     * Handles action FetchRecord on the service worker thread.
+     * Handles action FetchUser on the sync lane.
      */
-    private void handleActionFetchRecord() { DatabaseAccessor.fetchRecord(this); }
+    private static void handleActionFetchUser(Context context) { DatabaseAccessor.fetchUser(context); }
 
     /**
-     * Handles action FetchUser on the service worker thread.
+     * Handles action GiveSpawn on the network lane, enriching the target with contact details
+     * scraped from its homepage before posting its addition to the interactive lane.
      */
-    private void handleActionFetchUser() { DatabaseAccessor.fetchUser(this); }
+    private static void handleActionTargetSpawn(Context context, Spawn spawn) {
+
+        Target target = Target.fromSuper(spawn);
+
+        String phoneNumber = DataUtilities.urlToPhoneNumber(target);
+        target.setPhone(phoneNumber);
+
+        String emailAddress = DataUtilities.urlToEmailAddress(target);
+        target.setEmail(emailAddress);
+
+        String socialHandle = DataUtilities.urlToSocialHandle(target);
+        target.setSocial(socialHandle);
+
+        CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> handleActionAddTarget(context, target));
+    }
 
     /**
-     * Handles action GiveSpawn on the service worker thread.
+     * Handles addition of an enriched target on the interactive lane.
      */
-    private void handleActionTargetSpawn(Spawn spawn) {
+    private static void handleActionAddTarget(Context context, Target target) {
 
         float impact = 0f;
         int frequency = 0;
 
-//        DatabaseAccessor.addSpawn(this, spawn);
+//        DatabaseAccessor.addSpawn(context, spawn);
 
-        List<Record> records = DatabaseAccessor.getRecord(this);
+        List<Record> records = DatabaseAccessor.getRecord(context, DatabaseContract.CompanyEntry.PROJECTION_IMPACT);
         for (Record record : records) {
-            if (record.getEin().equals(spawn.getEin())) {
+            if (record.getEin().equals(target.getEin())) {
                 impact += record.getImpact();
                 frequency++;
             }
         }
 
-        List<Target> targets = DatabaseAccessor.getTarget(this);
+        List<Target> targets = DatabaseAccessor.getTarget(context, DatabaseContract.CompanyEntry.PROJECTION_ID);
         int size = targets.size();
         double percent = size == 0 ? 1d : 0d;
-        Target target = Target.fromSuper(spawn);
         target.setFrequency(frequency);
         target.setPercent(percent);
         target.setImpact(impact);
 
-        String phoneNumber = DataUtilities.urlToPhoneNumber(target);
-        target.setPhone(phoneNumber);
-
-        String emailAddress = DataUtilities.urlToEmailAddress(target);
-        target.setEmail(emailAddress);
-
-        String socialHandle = DataUtilities.urlToSocialHandle(target);
-        target.setSocial(socialHandle);
-
-        List<User> users = DatabaseAccessor.getUser(this);
+        List<User> users = DatabaseAccessor.getUser(context);
         for (User u : users) if (u.getUserActive()) {
             double totalImpact = u.getGiveImpact();
             float threshold = (size + 1) * .3f;
             if (totalImpact < threshold) {
                 u.setGiveImpact(threshold);
-                DatabaseAccessor.addUser(this, u);
+                DatabaseAccessor.addUser(context, u);
             }
         }
 
-        DatabaseAccessor.addTarget(this, target);
+        DatabaseAccessor.addTarget(context, target);
     }
 
     /**
-     * Handles action TargetRecord on the service worker thread.
+     * Handles action TargetRecord on the interactive lane.
      */
-    private void handleActionTargetRecord(Record record) {
+    private static void handleActionTargetRecord(Context context, Record record) {
 
         double impact = 0d;
         String ein = record.getEin();
-        List<Record> recordList = DatabaseAccessor.getRecord(this);
+        List<Record> recordList = DatabaseAccessor.getRecord(context, DatabaseContract.CompanyEntry.PROJECTION_IMPACT);
 
         for (Record r : recordList)
             if (r.getEin().equals(ein)) impact += r.getImpact();
 
-        List<Target> targetList = DatabaseAccessor.getTarget(this);
+        List<Target> targetList = DatabaseAccessor.getTarget(context, null);
         for (Target t : targetList)
             if (t.getEin().equals(ein)) {
                 t.setImpact(impact);
-                DatabaseAccessor.addTarget(this, t);
+                DatabaseAccessor.addTarget(context, t);
                 return;
             }
     }
 
     /**
-     * Handles action RecordTarget on the service worker thread.
+     * Handles action RecordTarget on the interactive lane.
      */
-    private void handleActionRecordTarget(Target... target) {
+    private static void handleActionRecordTarget(Context context, Target... target) {
 
         User activeUser;
-        List<User> userList = DatabaseAccessor.getUser(this);
-        if (userList.size() > 1) { startActionFetchUser(this); return; }
+        List<User> userList = DatabaseAccessor.getUser(context);
+        if (userList.size() > 1) { startActionFetchUser(context); return; }
         else activeUser = userList.get(0);
 
         if (activeUser.getGiveTiming() == 0 && !AppUtilities.dateIsCurrent(activeUser.getGiveAnchor())) {
             activeUser.setGiveAnchor(System.currentTimeMillis());
-            DatabaseManager.startActionUpdateUser(this, activeUser);
+            startActionUpdateUser(context, activeUser);
         }
 
         double giveImpact = activeUser.getGiveImpact();
+        Rounder.Mode rounding;
+        switch (activeUser.getGiveRounding()) {
+            case 0: rounding = Rounder.Mode.FLOOR; break;
+            case 1: rounding = Rounder.Mode.HALF_EVEN; break;
+            default: rounding = Rounder.Mode.NONE;
+        }
 
         for (Target t : target) {
             if (t.getPercent() == 0d) continue;
             t.setFrequency(t.getFrequency() + 1);
             double transactionImpact = t.getPercent() * giveImpact;
             double totalImpact = t.getImpact() + transactionImpact;
-            int round = activeUser.getGiveRounding();
-            String impactStr;
-            switch (round) {
-                case 0: impactStr = String.valueOf((Math.floor(totalImpact * 100)) / 100); break;
-                case 1: impactStr = String.format(Locale.getDefault(), "%.2f", totalImpact); break;
-                default: impactStr = String.valueOf(totalImpact);
-            }
-            t.setImpact(Double.parseDouble(impactStr));
-        } DatabaseAccessor.addTarget(this, target);
+            t.setImpact(Rounder.roundCents(totalImpact, rounding));
+        }
 
         List<Record> records = new ArrayList<>();
         for (int i = 0; i < target.length; i++) {
@@ -578,36 +462,29 @@ public final class DatabaseManager extends IntentService {
             Record record = Record.fromSuper(target[i].getSuper());
             record.setStamp(System.currentTimeMillis() + i);
             record.setTime(time);
-            int round = activeUser.getGiveRounding();
-            String impactStr;
-            switch (round) {
-                case 0: impactStr = String.valueOf((Math.floor(transactionImpact * 100)) / 100); break;
-                case 1: impactStr = String.format(Locale.getDefault(), "%.2f", transactionImpact); break;
-                default: impactStr = String.valueOf(transactionImpact);
-            }
-            record.setImpact(Double.parseDouble(impactStr));
+            record.setImpact(Rounder.roundCents(transactionImpact, rounding));
             records.add(record);
-        } DatabaseAccessor.addRecord(this, records.toArray(new Record[0]));
+        }
 
         if (activeUser.getGiveTiming() == 1) {
             activeUser.setGiveAnchor(System.currentTimeMillis());
             activeUser.setGiveTiming(0);
-        } DatabaseAccessor.addUser(this, activeUser);
+        } DatabaseAccessor.recordTarget(context, activeUser, target, records.toArray(new Record[0]));
     }
 
     /**
-     * Handles action UntargetCompany on the service worker thread.
+     * Handles action UntargetCompany on the interactive lane.
      */
-    private void handleActionUntargetCompany(String ein) {
+    private static void handleActionUntargetCompany(Context context, String ein) {
 
         Pair<String, String> where = new Pair<>(DatabaseContract.CompanyEntry.COLUMN_EIN + " = ? ", ein);
-        List<Target> untargetList = DatabaseAccessor.getTarget(this, where);
+        List<Target> untargetList = DatabaseAccessor.getTarget(context, DatabaseContract.CompanyEntry.PROJECTION_ID, where);
 
         if (!untargetList.isEmpty()) {
 
             Target untarget = untargetList.get(0);
 
-            List<Target> targetList = DatabaseAccessor.getTarget(this);
+            List<Target> targetList = DatabaseAccessor.getTarget(context, null);
             int untargetIndex = 0;
             for (int i = 0; i < targetList.size(); i++)
                 if (targetList.get(i).getEin().equals(ein)) untargetIndex = i;
@@ -615,116 +492,98 @@ public final class DatabaseManager extends IntentService {
 
             Rateraid.recalibrateRatings(targetList, false, Calibrater.STANDARD_PRECISION);
 
-            DatabaseAccessor.removeTarget(this, untarget);
-            DatabaseAccessor.addTarget(this, targetList.toArray(new Target[0]));
+            DatabaseAccessor.removeTarget(context, untarget);
+            DatabaseAccessor.addTarget(context, targetList.toArray(new Target[0]));
         }
     }
 
     /**
-     * Handles action RemoveSpawn on the service worker thread.
+     * Handles action RemoveSpawn on the interactive lane.
      */
-    private void handleActionRemoveSpawn(Spawn... spawns) {
-        DatabaseAccessor.removeSpawn(this, spawns);
+    private static void handleActionRemoveSpawn(Context context, Spawn... spawns) {
+        DatabaseAccessor.removeSpawn(context, spawns);
     }
 
     /**
-     * Handles action RemoveTarget on the service worker thread.
+     * Handles action RemoveTarget on the interactive lane.
      */
-    private void handleActionRemoveTarget(Target... targets) {
-        DatabaseAccessor.removeTarget(this, targets);
+    private static void handleActionRemoveTarget(Context context, Target... targets) {
+        DatabaseAccessor.removeTarget(context, targets);
     }
 
     /**
-     * Handles action RemoveRecord on the service worker thread.
+     * Handles action RemoveRecord on the interactive lane.
      */
-    private void handleActionRemoveRecord(Record... records) {
+    private static void handleActionRemoveRecord(Context context, Record... records) {
 
-        DatabaseAccessor.removeRecord(this, records);
+        DatabaseAccessor.removeRecord(context, records);
 
-        List<Target> targets = DatabaseAccessor.getTarget(this);
+        List<Target> targets = DatabaseAccessor.getTarget(context, null);
+        List<Target> changedTargets = new ArrayList<>();
         for (Target target : targets) {
             for (Record record : records) {
                 if (record.getEin().equals(target.getEin())) {
                     target.setFrequency(target.getFrequency() - 1);
                     double impact = target.getImpact() - record.getImpact();
                     target.setImpact(impact);
-                    DatabaseAccessor.addTarget(this, target);
+                    changedTargets.add(target);
                     break;
                 }
             }
         }
+        if (!changedTargets.isEmpty()) DatabaseAccessor.addTarget(context, changedTargets.toArray(new Target[0]));
     }
 
     /**
-     * Handles action RemoveUser on the service worker thread.
+     * Handles action RemoveUser on the interactive lane.
      */
-    private void handleActionRemoveUser(User... users) {
-
-        List<Spawn> spawns = DatabaseAccessor.getSpawn(this);
-        List<Target> targets = DatabaseAccessor.getTarget(this);
-        List<Record> records = DatabaseAccessor.getRecord(this);
-
-        for (User user : users) {
-            for (Spawn spawn : spawns)
-                if (spawn.getUid().equals(user.getUid()))
-                    DatabaseAccessor.removeSpawn(this, spawn);
-            for (Target target : targets)
-                if (target.getUid().equals(user.getUid()))
-                    DatabaseAccessor.removeTarget(this, target);
-            for (Record record : records)
-                if (record.getUid().equals(user.getUid()))
-                    DatabaseAccessor.removeRecord(this, record);
-        }
-        DatabaseAccessor.removeUser(this, users);
+    private static void handleActionRemoveUser(Context context, User... users) {
+        DatabaseAccessor.removeUserData(context, users);
     }
 
     /**
-     * Handles action ResetSpawn on the service worker thread.
+     * Handles action ResetSpawn on the interactive lane.
      */
-    private void handleActionResetSpawn() {
-        DatabaseAccessor.removeSpawn(this);
+    private static void handleActionResetSpawn(Context context) {
+        DatabaseAccessor.removeSpawn(context);
     }
 
     /**
-     * Handles action ResetTarget on the service worker thread.
+     * Handles action ResetTarget on the interactive lane.
      */
-    private void handleActionResetTarget() {
-        DatabaseAccessor.removeTarget(this);
+    private static void handleActionResetTarget(Context context) {
+        DatabaseAccessor.removeTarget(context);
     }
 
     /**
-     * Handles action ResetRecord in the provided background.
+     * Handles action ResetRecord on the interactive lane.
      */
-    private void handleActionResetRecord() {
+    private static void handleActionResetRecord(Context context) {
 
-        DatabaseAccessor.removeRecord(this);
-        List<Target> targets = DatabaseAccessor.getTarget(this);
+        DatabaseAccessor.removeRecord(context);
+        List<Target> targets = DatabaseAccessor.getTarget(context, null);
         for (Target target : targets) {
             target.setImpact(0);
             target.setFrequency(0);
         }
-        DatabaseAccessor.addTarget(this, targets.toArray(new Target[0]));
+        DatabaseAccessor.addTarget(context, targets.toArray(new Target[0]));
     }
 
     /**
-     * Handles action ResetUser on the service worker thread.
+     * Handles action ResetUser on the interactive lane.
      */
-    private void handleActionResetUser() {
-
-        DatabaseAccessor.removeSpawn(this);
-        DatabaseAccessor.removeTarget(this);
-        DatabaseAccessor.removeRecord(this);
-        DatabaseAccessor.removeUser(this);
+    private static void handleActionResetUser(Context context) {
+        DatabaseAccessor.removeUserData(context);
     }
 
     /**
-     * Handles action UpdatePercent on the service worker thread.
+     * Handles action UpdateTarget on the interactive lane.
      */
-    private void handleActionUpdateTarget(Target... targets) {
+    private static void handleActionUpdateTarget(Context context, Target... targets) {
         int offset = 0;
         int offsetIndex = 0;
         // If parameter list is identical to persisted list short one element, remove the element from the persisted lists
-        List<Target> persistedList = DatabaseAccessor.getTarget(this);
+        List<Target> persistedList = DatabaseAccessor.getTarget(context, DatabaseContract.CompanyEntry.PROJECTION_ID);
         List<Target> updatedList = Arrays.asList(targets);
         if (persistedList.size() - 1 == targets.length)
             for (int i = 0; i < persistedList.size(); i++) {
@@ -734,38 +593,42 @@ public final class DatabaseManager extends IntentService {
                 }
             }
 
-        if (targets.length == 0) DatabaseAccessor.removeTarget(this);
+        if (targets.length == 0) DatabaseAccessor.removeTarget(context);
         else if (offset == 1) {
             Target removedTarget = persistedList.get(offsetIndex);
-            DatabaseAccessor.removeTarget(this, removedTarget);
-            DatabaseAccessor.addTarget(this, targets);
+            DatabaseAccessor.removeTarget(context, removedTarget);
+            DatabaseAccessor.addTarget(context, targets);
         }
-        else DatabaseAccessor.addTarget(this, targets);
+        else DatabaseAccessor.addTarget(context, targets);
+    }
+
+    /**
+     * Handles action UpdatePercent on the interactive lane.
+     */
+    private static void handleActionUpdatePercent(Context context, String uid, String[] ids, double[] percents) {
+        DatabaseAccessor.updateTargetPercent(context, uid, ids, percents);
     }
 
     /**
-     * Handles action UpdateRecord on the service worker thread.
+     * Handles action UpdateRecord on the interactive lane.
      */
-    private void handleActionUpdateRecord(Record... records) {
-        DatabaseAccessor.addRecord(this, records);
+    private static void handleActionUpdateRecord(Context context, Record... records) {
+        DatabaseAccessor.addRecord(context, records);
     }
 
     /**
-     * Handles action UpdateUser on the service worker thread.
+     * Handles action UpdateUser on the interactive lane.
      */
-    private void handleActionUpdateUser(User... user) {
-        DatabaseAccessor.addUser(this, user);
+    private static void handleActionUpdateUser(Context context, User... user) {
+        DatabaseAccessor.addUser(context, user);
     }
 
     /**
-     * Handles action ResetData on the service worker thread.
+     * Handles action ResetData on the interactive lane.
      */
-    private void handleActionResetData() {
+    private static void handleActionResetData(Context context) {
 
-        DatabaseAccessor.removeSpawn(this);
-        DatabaseAccessor.removeTarget(this);
-        DatabaseAccessor.removeRecord(this);
-        DatabaseAccessor.removeUser(this);
-        PreferenceManager.getDefaultSharedPreferences(this).edit().clear().apply();
+        DatabaseAccessor.removeUserData(context);
+        PreferenceManager.getDefaultSharedPreferences(context).edit().clear().apply();
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package art.coded.givetrack.data;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import java.util.List;
+import java.util.Objects;
+
+import art.coded.givetrack.data.entry.Target;
+import art.coded.givetrack.data.entry.User;
+
+/**
+ * Holds in process the active user and their targets as last loaded, so that screens observe changes
+ * to them in place rather than being recreated with copies parceled into their arguments.
+ */
+public final class EntryRepository {
+
+    private static final MutableLiveData<User> sUser = new MutableLiveData<>();
+    private static final MutableLiveData<List<Target>> sTargets = new MutableLiveData<>();
+
+    private EntryRepository() {}
+
+    public static LiveData<User> getUser() { return sUser; }
+
+    public static LiveData<List<Target>> getTargets() { return sTargets; }
+
+    /**
+     * Publishes the active user from the main thread, discarding the targets of any other user it replaces.
+     */
+    public static void setUser(User user) {
+        User previous = sUser.getValue();
+        if (previous != null && user != null && !Objects.equals(previous.getUid(), user.getUid())) sTargets.setValue(null);
+        sUser.setValue(user);
+    }
+
+    /**
+     * Publishes the targets of the active user from the main thread.
+     */
+    public static void setTargets(List<Target> targets) { sTargets.setValue(targets); }
+}
@@ -36,4 +36,6 @@ public interface Company extends Entry, Parcelable, Cloneable {
     void setImpact(double impact);
     int getType();
     void setType(int type);
+    long getModified();
+    void setModified(long modified);
 }
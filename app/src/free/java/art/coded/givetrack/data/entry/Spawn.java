@@ -36,6 +36,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
     private String social;
     private double impact;
     private int type;
+    private long modified; // Time of most recent change to this entry
 
     @Exclude public static final Creator<Spawn> CREATOR = new Creator<Spawn>() {
         @Override public Spawn createFromParcel(Parcel source) { return new Spawn(source); }
@@ -59,6 +60,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         dest.writeString(social);
         dest.writeDouble(impact);
         dest.writeInt(type);
+        dest.writeLong(modified);
     }
 
     @Override public int describeContents() { return 0; }
@@ -80,6 +82,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         social = source.readString();
         impact = source.readDouble();
         type = source.readInt();
+        modified = source.readLong();
     }
 
     public Spawn(Spawn spawn) {
@@ -99,6 +102,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         this.social = spawn.social;
         this.impact = spawn.impact;
         this.type = spawn.type;
+        this.modified = spawn.modified;
     }
 
     /**
@@ -176,6 +180,8 @@ public class Spawn implements Company, Parcelable, Cloneable {
     @Override public void setImpact(double impact) { this.impact = impact; }
     @Override public int getType() { return type; }
     @Override public void setType(int type) { this.type = type; }
+    @Override public long getModified() { return modified; }
+    @Override public void setModified(long modified) { this.modified = modified; }
     @Override public String getId() { return String.valueOf(stamp); }
     @Exclude @Override public Spawn getObject() { return this; }
     
@@ -197,6 +203,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         map.put(DatabaseContract.CompanyEntry.COLUMN_SOCIAL, social);
         map.put(DatabaseContract.CompanyEntry.COLUMN_IMPACT, String.valueOf(impact));
         map.put(DatabaseContract.CompanyEntry.COLUMN_TYPE, type);
+        map.put(DatabaseContract.CompanyEntry.COLUMN_MODIFIED, modified);
         return map;
     }
     
@@ -216,6 +223,8 @@ public class Spawn implements Company, Parcelable, Cloneable {
         social = (String) map.get(DatabaseContract.CompanyEntry.COLUMN_SOCIAL);
         impact = Double.parseDouble(String.valueOf(map.get(DatabaseContract.CompanyEntry.COLUMN_IMPACT)));
         type = (int) map.get(DatabaseContract.CompanyEntry.COLUMN_TYPE);
+        Object modifiedValue = map.get(DatabaseContract.CompanyEntry.COLUMN_MODIFIED); // absent from entries preceding versioning
+        modified = modifiedValue != null ? (long) modifiedValue : 0;
 
     }
 
@@ -237,6 +246,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         values.put(DatabaseContract.CompanyEntry.COLUMN_SOCIAL, social);
         values.put(DatabaseContract.CompanyEntry.COLUMN_IMPACT, String.valueOf(impact));
         values.put(DatabaseContract.CompanyEntry.COLUMN_TYPE, type);
+        values.put(DatabaseContract.CompanyEntry.COLUMN_MODIFIED, modified);
         return values;
     }
 
@@ -257,6 +267,25 @@ public class Spawn implements Company, Parcelable, Cloneable {
         social = values.getAsString(DatabaseContract.CompanyEntry.COLUMN_SOCIAL);
         impact = Double.parseDouble(values.getAsString(DatabaseContract.CompanyEntry.COLUMN_IMPACT));
         type = values.getAsInteger(DatabaseContract.CompanyEntry.COLUMN_TYPE);
+        Long modifiedValue = values.getAsLong(DatabaseContract.CompanyEntry.COLUMN_MODIFIED);
+        modified = modifiedValue != null ? modifiedValue : 0;
+    }
+
+    /**
+     * Copies the fields describing the company, held once for every entry of the same EIN, from the given entry.
+     */
+    public void copyProfile(Spawn profile) {
+        name = profile.name;
+        locationStreet = profile.locationStreet;
+        locationDetail = profile.locationDetail;
+        locationCity = profile.locationCity;
+        locationState = profile.locationState;
+        locationZip = profile.locationZip;
+        homepageUrl = profile.homepageUrl;
+        navigatorUrl = profile.navigatorUrl;
+        phone = profile.phone;
+        email = profile.email;
+        social = profile.social;
     }
 
     @Override public Spawn clone() {
@@ -290,6 +319,7 @@ public class Spawn implements Company, Parcelable, Cloneable {
         spawn.social = "";
         spawn.impact = 0;
         spawn.type = 0;
+        spawn.modified = 0;
         return spawn;
     }
 }
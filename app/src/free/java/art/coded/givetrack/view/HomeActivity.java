@@ -26,7 +26,6 @@ import androidx.transition.Fade;
 import androidx.viewpager.widget.ViewPager;
 import androidx.core.view.GravityCompat;
 
-import android.os.Parcelable;
 import android.os.PersistableBundle;
 import android.widget.DatePicker;
 import android.view.Menu;
@@ -45,13 +44,15 @@ import butterknife.OnClick;
 
 import art.coded.givetrack.AppUtilities;
 import art.coded.givetrack.data.DatabaseManager;
+import art.coded.givetrack.data.EntryRepository;
+import art.coded.givetrack.data.entry.CursorMapper;
 import art.coded.givetrack.data.entry.Target;
-import art.coded.givetrack.data.entry.Record;
 import art.coded.givetrack.data.entry.User;
 import com.google.android.material.navigation.NavigationView;
 import com.google.android.material.tabs.TabLayout;
 
 import java.util.Calendar;
+import java.util.List;
 import java.util.TimeZone;
 
 import art.coded.givetrack.R;
@@ -75,13 +76,10 @@ public class HomeActivity extends AppCompatActivity implements
     public static final String ACTION_HOME_INTENT = "art.coded.givetrack.ui.action.HOME_INTENT";
 
     public static final String ARGS_PLACEHOLDER_ATTRIBUTES = "art.coded.givetrack.ui.arg.PLACEHOLDER_ATTRIBUTES";
-    public static final String ARGS_TARGET_ATTRIBUTES = "art.coded.givetrack.ui.arg.GIVE_ATTRIBUTES";
-    public static final String ARGS_RECORD_ATTRIBUTES = "art.coded.givetrack.ui.arg.RECORD_ATTRIBUTES";
-    public static final String ARGS_USER_ATTRIBUTES = "art.coded.givetrack.ui.arg.USER_ATTRIBUTES";
     public static final String ARGS_ACTION_ATTRIBUTES = "art.coded.givetrack.ui.arg.ACTION_ATTRIBUTES";
 
-    private static final String STATE_RECORD_ARRAY = "art.coded.givetrack.ui.state.RECORD_ARRAY";
-    private static final String STATE_TARGET_ARRAY = "art.coded.givetrack.ui.state.TARGET_ARRAY";
+    private static final String STATE_RECORD_LOADED = "art.coded.givetrack.ui.state.RECORD_LOADED";
+    private static final String STATE_TARGET_LOADED = "art.coded.givetrack.ui.state.TARGET_LOADED";
     private static final String STATE_ACTIVE_USER = "art.coded.givetrack.ui.state.ACTIVE_USER";
     private static final String STATE_USER_LOCK = "art.coded.givetrack.ui.state.USER_LOCK";
     private static final String STATE_TARGET_LOCK = "art.coded.givetrack.ui.state.TARGET_LOCK";
@@ -94,8 +92,8 @@ public class HomeActivity extends AppCompatActivity implements
     private boolean mInstanceStateRestored;
     private long mAnchorTime;
     private SectionsPagerAdapter mPagerAdapter;
-    private Target[] mTargetArray;
-    private Record[] mRecordArray;
+    private boolean mTargetLoaded;
+    private boolean mRecordLoaded;
     private AlertDialog mAnchorDialog;
     private AlertDialog mCurrentDialog;
     private User mUser;
@@ -119,10 +117,8 @@ public class HomeActivity extends AppCompatActivity implements
             mTargetLock = savedInstanceState.getBoolean(STATE_TARGET_LOCK);
             mRecordLock = savedInstanceState.getBoolean(STATE_RECORD_LOCK);
             mUser = savedInstanceState.getParcelable(STATE_ACTIVE_USER);
-            Parcelable[] pTargets = savedInstanceState.getParcelableArray(STATE_TARGET_ARRAY);
-            Parcelable[] pRecords = savedInstanceState.getParcelableArray(STATE_RECORD_ARRAY);
-            if (pTargets != null) mTargetArray = AppUtilities.getTypedArrayFromParcelables(pTargets, Target.class);
-            if (pRecords != null) mRecordArray = AppUtilities.getTypedArrayFromParcelables(pRecords, Record.class);
+            mTargetLoaded = savedInstanceState.getBoolean(STATE_TARGET_LOADED);
+            mRecordLoaded = savedInstanceState.getBoolean(STATE_RECORD_LOADED);
             mInstanceStateRestored = true;
 //            savedInstanceState.clear();
         }
@@ -207,8 +203,8 @@ public class HomeActivity extends AppCompatActivity implements
      * Persists values through destructive lifecycle changes.
      */
     @Override protected void onSaveInstanceState(@NonNull Bundle outState) {
-        outState.putParcelableArray(STATE_TARGET_ARRAY, mTargetArray);
-        outState.putParcelableArray(STATE_RECORD_ARRAY, mRecordArray);
+        outState.putBoolean(STATE_TARGET_LOADED, mTargetLoaded);
+        outState.putBoolean(STATE_RECORD_LOADED, mRecordLoaded);
         outState.putParcelable(STATE_ACTIVE_USER, mUser);
         super.onSaveInstanceState(outState);
     }
@@ -219,7 +215,7 @@ public class HomeActivity extends AppCompatActivity implements
     @NonNull @Override public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         switch (id) {
             case LOADER_ID_TARGET: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ?", new String[] { mUser.getUid() }, DatabaseContract.CompanyEntry.COLUMN_PERCENT + " " + "DESC");
-            case LOADER_ID_RECORD: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_RECORD, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
+            case LOADER_ID_RECORD: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_RECORD.buildUpon().appendQueryParameter(DatabaseContract.PARAM_LIMIT, "1").build(), new String[] { DatabaseContract.CompanyEntry.COLUMN_STAMP }, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
             case LOADER_ID_USER: return new CursorLoader(this, DatabaseContract.UserEntry.CONTENT_URI_USER, null, DatabaseContract.UserEntry.COLUMN_USER_ACTIVE + " = ? ", new String[] { "1" }, null);
             default: throw new RuntimeException(this.getString(R.string.loader_error_message, id));
         }
@@ -232,49 +228,34 @@ public class HomeActivity extends AppCompatActivity implements
         int id = loader.getId();
         switch (id) {
             case DatabaseContract.LOADER_ID_TARGET:
-                if (!mUserLock && mTargetArray == null) {
-                    mTargetArray = new Target[data.getCount()];
+                if (!mUserLock && !mTargetLoaded) {
+                    mTargetLoaded = true;
                     DatabaseManager.startActionFetchTarget(this);
                 } else {
                     mTargetLock = false;
-                    mTargetArray = new Target[data.getCount()];
-                    if (data.moveToFirst()) {
-                        int i = 0;
-                        do {
-                            Target target = new Target();
-                            AppUtilities.cursorRowToEntry(data, target);
-                            mTargetArray[i++] = target;
-                        } while (data.moveToNext());
-                    }
+                    EntryRepository.setTargets(AppUtilities.getEntryListFromCursor(data, Target.class));
                 }
                 break;
-            case DatabaseContract.LOADER_ID_RECORD:
-                if (!mUserLock && mRecordArray == null) {
-                    mRecordArray = new Record[data.getCount()];
+            case DatabaseContract.LOADER_ID_RECORD: // Records are loaded by GlanceFragment as totals and by RecordActivity in pages
+                if (!mUserLock && !mRecordLoaded) {
+                    mRecordLoaded = true;
                     DatabaseManager.startActionFetchRecord(this);
                 } else {
                     mRecordLock = false;
-                    mRecordArray = new Record[data.getCount()];
-                    if (data.moveToFirst()) {
-                        int i = 0;
-                        do {
-                            Record record = new Record();
-                            AppUtilities.cursorRowToEntry(data, record);
-                            mRecordArray[i++] = record;
-                        } while (data.moveToNext());
-                    }
                 }
                 break;
             case DatabaseContract.LOADER_ID_USER:
                 if (data.moveToFirst()) {
+                    CursorMapper<User> userMapper = CursorMapper.of(User.class, data);
                     do {
                         User user = User.getDefault();
-                        AppUtilities.cursorRowToEntry(data, user);
+                        userMapper.read(data, user);
                         if (user.getUserActive()) {
                             mUserLock = false;
                             mUser = user;
-                            if (mTargetArray == null || mInstanceStateRestored) getSupportLoaderManager().initLoader(DatabaseContract.LOADER_ID_TARGET, null, this);
-                            if (mRecordArray == null || mInstanceStateRestored) getSupportLoaderManager().initLoader(DatabaseContract.LOADER_ID_RECORD, null, this);
+                            EntryRepository.setUser(user);
+                            if (!mTargetLoaded || mInstanceStateRestored) getSupportLoaderManager().initLoader(DatabaseContract.LOADER_ID_TARGET, null, this);
+                            if (!mRecordLoaded || mInstanceStateRestored) getSupportLoaderManager().initLoader(DatabaseContract.LOADER_ID_RECORD, null, this);
                             mInstanceStateRestored = false;
                             break;
                         }
@@ -495,24 +476,15 @@ public class HomeActivity extends AppCompatActivity implements
         @Override public @NonNull Fragment getItem(int position) {
 
             Bundle argsPlaceholder = new Bundle();
-            if (mTargetArray == null || mRecordArray == null) {
-                argsPlaceholder.putBoolean(ARGS_PLACEHOLDER_ATTRIBUTES, true);
-                argsPlaceholder.putString(ARGS_ACTION_ATTRIBUTES, getIntent().getAction());
-                return PlaceholderFragment.newInstance(argsPlaceholder);
-            } else if (mTargetArray.length == 0) {
-                argsPlaceholder.putBoolean(ARGS_PLACEHOLDER_ATTRIBUTES, false);
+            Boolean launchScreen = getPlaceholderState();
+            if (launchScreen != null) {
+                argsPlaceholder.putBoolean(ARGS_PLACEHOLDER_ATTRIBUTES, launchScreen);
+                if (launchScreen) argsPlaceholder.putString(ARGS_ACTION_ATTRIBUTES, getIntent().getAction());
                 return PlaceholderFragment.newInstance(argsPlaceholder);
             } else {
-                Bundle argsTarget = new Bundle();
-                Bundle argsRecord = new Bundle();
-                argsTarget.putParcelableArray(ARGS_TARGET_ATTRIBUTES, mTargetArray);
-                argsRecord.putParcelableArray(ARGS_RECORD_ATTRIBUTES, mRecordArray);
-                argsTarget.putParcelable(ARGS_USER_ATTRIBUTES, mUser);
-                argsRecord.putParcelable(ARGS_USER_ATTRIBUTES, mUser);
-
                 switch (position) {
-                    case 0: return GiveFragment.newInstance(argsTarget);
-                    case 1: return GlanceFragment.newInstance(argsRecord);
+                    case 0: return GiveFragment.newInstance(new Bundle());
+                    case 1: return GlanceFragment.newInstance(new Bundle());
                     default: return PlaceholderFragment.newInstance(argsPlaceholder);
                 }
             }
@@ -524,10 +496,26 @@ public class HomeActivity extends AppCompatActivity implements
         @Override public int getCount() { return 2; }
 
         /**
-         * Forces pager adapter to recreate Fragments on calls to {@link #notifyDataSetChanged()}
+         * Recreates on calls to {@link #notifyDataSetChanged()} only those Fragments no longer matching the state
+         * of the data, as those presenting the data observe its changes in place from {@link EntryRepository}.
          */
         @Override public int getItemPosition(@NonNull Object object) {
-            return POSITION_NONE;
+            Boolean launchScreen = getPlaceholderState();
+            if (!(object instanceof PlaceholderFragment)) return launchScreen == null ? POSITION_UNCHANGED : POSITION_NONE;
+            Bundle args = ((PlaceholderFragment) object).getArguments();
+            boolean shownLaunchScreen = args != null && args.getBoolean(ARGS_PLACEHOLDER_ATTRIBUTES);
+            return launchScreen != null && launchScreen == shownLaunchScreen ? POSITION_UNCHANGED : POSITION_NONE;
+        }
+
+        /**
+         * Indicates whether a placeholder should be presented in place of the data: {@code true} for the
+         * launch screen while loading, {@code false} for the prompt to add targets, or null to present the data.
+         */
+        private @Nullable Boolean getPlaceholderState() {
+            if (!mTargetLoaded || !mRecordLoaded) return true;
+            List<Target> targets = EntryRepository.getTargets().getValue();
+            if (targets == null || targets.isEmpty()) return false;
+            return null;
         }
 
         /**
@@ -0,0 +1,135 @@
+package art.coded.givetrack.view;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import art.coded.givetrack.AppExecutors;
+
+/**
+ * Computes on a worker thread the differences between the values presented by a {@link RecyclerView.Adapter}
+ * and those replacing them, then dispatches the differences to the adapter on the main thread as item updates.
+ * Values are compared by snapshots of their keys and displayed fields taken on submission, so that values
+ * changed in place are compared against what was last presented.
+ */
+final class ListDiffer<T> {
+
+    private static final Object PAYLOAD_REBIND = new Object(); // Rebinds changed items in place instead of crossfading
+
+    private final RecyclerView.Adapter<?> mAdapter;
+    private final int mTrailingCount; // Items following the values, such as buttons
+    private final Function<T, Object> mKeyOf;
+    private final Function<T, Object> mContentOf;
+    private Snapshot mPresented = new Snapshot(new Object[0], new Object[0]);
+    private int mGeneration; // Advanced on each submission to discard those superseded
+
+    /**
+     * @param adapter       {@link RecyclerView.Adapter} presenting the values
+     * @param trailingCount number of items the adapter presents following the values
+     * @param keyOf         identifies the entry of a value
+     * @param contentOf     collects the fields of a value displayed by the adapter
+     */
+    ListDiffer(RecyclerView.Adapter<?> adapter, int trailingCount, Function<T, Object> keyOf, Function<T, Object> contentOf) {
+        mAdapter = adapter;
+        mTrailingCount = trailingCount;
+        mKeyOf = keyOf;
+        mContentOf = contentOf;
+    }
+
+    /**
+     * Records the given values as presented without dispatching updates, as when the adapter
+     * is constructed with them, and discards any submission still computing.
+     */
+    void present(@Nullable List<T> values) {
+        mGeneration++;
+        mPresented = snapshot(values);
+    }
+
+    /**
+     * Submits values to replace those presented, which may be the same values changed in place.
+     * @param values values to be presented
+     * @param swap   action swapping the values into the adapter on the main thread
+     *               immediately before updates are dispatched, or null if already in place
+     */
+    void submit(@Nullable List<T> values, @Nullable Runnable swap) {
+        Snapshot previous = mPresented;
+        Snapshot next = snapshot(values);
+        int generation = ++mGeneration;
+
+        AppExecutors executors = AppExecutors.getInstance();
+        executors.getDiskIO().execute(() -> {
+            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new Callback(previous, next, mTrailingCount));
+            executors.getMainThread().execute(() -> {
+                if (generation != mGeneration) return;
+                if (swap != null) swap.run();
+                mPresented = next;
+                result.dispatchUpdatesTo(mAdapter);
+            });
+        });
+    }
+
+    private Snapshot snapshot(@Nullable List<T> values) {
+        int size = values != null ? values.size() : 0;
+        Object[] keys = new Object[size];
+        Object[] contents = new Object[size];
+        for (int i = 0; i < size; i++) {
+            T value = values.get(i);
+            if (value == null) continue;
+            keys[i] = mKeyOf.apply(value);
+            contents[i] = mContentOf.apply(value);
+        } return new Snapshot(keys, contents);
+    }
+
+    private static final class Snapshot {
+
+        private final Object[] mKeys;
+        private final Object[] mContents;
+
+        private Snapshot(Object[] keys, Object[] contents) {
+            mKeys = keys;
+            mContents = contents;
+        }
+    }
+
+    /**
+     * Matches items by key and trailing items by their offset from the end. Items are left unchanged
+     * only where they keep their position, as adapters tag the views of an item with its position when bound.
+     */
+    private static final class Callback extends DiffUtil.Callback {
+
+        private final Snapshot mOld;
+        private final Snapshot mNew;
+        private final int mTrailingCount;
+
+        private Callback(Snapshot oldSnapshot, Snapshot newSnapshot, int trailingCount) {
+            mOld = oldSnapshot;
+            mNew = newSnapshot;
+            mTrailingCount = trailingCount;
+        }
+
+        @Override public int getOldListSize() { return mOld.mKeys.length + mTrailingCount; }
+
+        @Override public int getNewListSize() { return mNew.mKeys.length + mTrailingCount; }
+
+        @Override public boolean areItemsTheSame(int oldPosition, int newPosition) {
+            boolean oldTrailing = oldPosition >= mOld.mKeys.length;
+            boolean newTrailing = newPosition >= mNew.mKeys.length;
+            if (oldTrailing || newTrailing) return oldTrailing && newTrailing
+                    && oldPosition - mOld.mKeys.length == newPosition - mNew.mKeys.length;
+            Object key = mOld.mKeys[oldPosition];
+            return key != null && key.equals(mNew.mKeys[newPosition]);
+        }
+
+        @Override public boolean areContentsTheSame(int oldPosition, int newPosition) {
+            if (oldPosition != newPosition) return false;
+            if (oldPosition >= mOld.mKeys.length) return true;
+            return Objects.equals(mOld.mContents[oldPosition], mNew.mContents[newPosition]);
+        }
+
+        @Override public @Nullable Object getChangePayload(int oldPosition, int newPosition) { return PAYLOAD_REBIND; }
+    }
+}
@@ -20,6 +20,7 @@ import androidx.loader.app.LoaderManager;
 import androidx.loader.content.CursorLoader;
 import androidx.loader.content.Loader;
 import androidx.recyclerview.widget.ItemTouchHelper;
+import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.appcompat.widget.Toolbar;
 
@@ -52,13 +53,16 @@ import art.coded.givetrack.R;
 
 import art.coded.givetrack.data.DatabaseContract;
 import art.coded.givetrack.data.DatabaseManager;
+import art.coded.givetrack.data.RecordPager;
 import art.coded.givetrack.data.entry.Company;
+import art.coded.givetrack.data.entry.CursorMapper;
 import art.coded.givetrack.data.entry.Record;
 import art.coded.givetrack.data.entry.Spawn;
 import art.coded.givetrack.data.entry.User;
 import com.google.android.material.snackbar.Snackbar;
 
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -90,6 +94,7 @@ public class RecordActivity extends AppCompatActivity implements
     private DetailFragment mDetailFragment;
     private Record[] mValuesArray;
     private ListAdapter mAdapter;
+    private RecordPager mPager;
     private AlertDialog mRemoveDialog;
     private String mSnackbarMessage;
     private User mUser;
@@ -140,6 +145,16 @@ public class RecordActivity extends AppCompatActivity implements
                 ItemTouchHelper.ACTION_STATE_IDLE,
                 ItemTouchHelper.LEFT | ItemTouchHelper.RIGHT
         )).attachToRecyclerView(mRecyclerView);
+        mRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || mPager == null || mValuesArray == null || mValuesArray.length == 0) return;
+                LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+                if (layoutManager == null) return;
+                int remaining = mValuesArray.length - 1 - layoutManager.findLastVisibleItemPosition();
+                if (remaining <= RecordPager.PREFETCH_DISTANCE)
+                    mPager.loadAfter(RecordActivity.this, mValuesArray[mValuesArray.length - 1], RecordActivity.this::appendRecords);
+            }
+        });
 
         if (isDualPane()) ViewUtilities.launchDetailPane(this, mListContainer, mDetailContainer);
     }
@@ -194,8 +209,11 @@ public class RecordActivity extends AppCompatActivity implements
      */
     @NonNull @Override public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         switch (id) {
-            case LOADER_ID_TARGET: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
-            case LOADER_ID_RECORD: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_RECORD, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, mUser.getRecordSort() + " " + mUser.getRecordOrder());
+            case LOADER_ID_TARGET: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, DatabaseContract.CompanyEntry.PROJECTION_ID, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
+            case LOADER_ID_RECORD:
+                mPager = new RecordPager(mUser);
+                int count = mValuesArray != null ? mValuesArray.length : 0;
+                return new CursorLoader(this, mPager.getUri(count), null, mPager.getSelection(), mPager.getSelectionArgs(), mPager.getSortOrder());
             case LOADER_ID_USER: return new CursorLoader(this, DatabaseContract.UserEntry.CONTENT_URI_USER, null, DatabaseContract.UserEntry.COLUMN_USER_ACTIVE + " = ? ", new String[] { "1" }, null);
             default: throw new RuntimeException(this.getString(R.string.loader_error_message, id));
         }
@@ -223,12 +241,15 @@ public class RecordActivity extends AppCompatActivity implements
                 break;
             case DatabaseContract.LOADER_ID_RECORD:
                 if (mLock) break;
+                if (mPager == null) mPager = new RecordPager(mUser);
+                else mPager.reset();
                 mValuesArray = new Record[data.getCount()];
 //                if (!mInstanceStateRestored) {
                     int i = 0;
+                    CursorMapper<Record> recordMapper = CursorMapper.of(Record.class, data);
                     do {
                         Record record = Record.getDefault();
-                        AppUtilities.cursorRowToEntry(data, record);
+                        recordMapper.read(data, record);
                         mValuesArray[i++] = record;
                     } while (data.moveToNext());
                     mAdapter.swapValues(mValuesArray);
@@ -243,9 +264,10 @@ public class RecordActivity extends AppCompatActivity implements
                 break;
             case DatabaseContract.LOADER_ID_USER:
                 if (data.moveToFirst()) {
+                    CursorMapper<User> userMapper = CursorMapper.of(User.class, data);
                     do {
                         User user = User.getDefault();
-                        AppUtilities.cursorRowToEntry(data, user);
+                        userMapper.read(data, user);
                         if (mUser != null && user.getTargetStamp() != mUser.getTargetStamp() && isDualPane()) {
                             Bundle bundle = new Bundle();
                             bundle.putParcelable(DetailFragment.ARG_ITEM_COMPANY, mValuesArray[mPanePosition]);
@@ -273,6 +295,21 @@ public class RecordActivity extends AppCompatActivity implements
         mAdapter.swapValues(null);
     }
 
+    /**
+     * Appends a page of records following those loaded and widens the record {@link Loader}
+     * to reload them all on changes to the records.
+     */
+    private void appendRecords(Record[] page) {
+        if (page.length == 0 || mValuesArray == null) return;
+        int start = mValuesArray.length;
+        mValuesArray = Arrays.copyOf(mValuesArray, start + page.length);
+        System.arraycopy(page, 0, mValuesArray, start, page.length);
+        mAdapter.swapValues(mValuesArray);
+
+        Loader<Cursor> loader = getSupportLoaderManager().getLoader(LOADER_ID_RECORD);
+        if (loader instanceof CursorLoader) ((CursorLoader) loader).setUri(mPager.getUri(mValuesArray.length));
+    }
+
     /**
      * Indicates whether the MasterDetailFlow is in dual pane mode.
      */
@@ -394,10 +431,14 @@ public class RecordActivity extends AppCompatActivity implements
     class ListAdapter extends RecyclerView.Adapter<ListAdapter.ViewHolder> {
 
         private Record[] mValuesArray;
+        private final ListDiffer<Record> mDiffer;
 
         ListAdapter(Record[] valuesArray) {
             super();
             mValuesArray = valuesArray;
+            mDiffer = new ListDiffer<>(this, 0, Record::getStamp, record -> Arrays.asList(
+                    record.getType(), record.getEin(), record.getName(), record.getImpact(), record.getTime()));
+            mDiffer.present(valuesArray != null ? Arrays.asList(valuesArray) : null);
             mLock = true;
         }
 
@@ -481,11 +522,10 @@ public class RecordActivity extends AppCompatActivity implements
         }
 
         /**
-         * Swaps the Cursor after completing a load or resetting Loader.
+         * Swaps the values after completing a load or resetting Loader, updating only the items that differ.
          */
         private void swapValues(Record[] valuesArray) {
-            mValuesArray = valuesArray;
-            notifyDataSetChanged();
+            mDiffer.submit(valuesArray != null ? Arrays.asList(valuesArray) : null, () -> mValuesArray = valuesArray);
         }
 
         /**
@@ -40,6 +40,7 @@ import art.coded.givetrack.R;
 import art.coded.givetrack.data.DatabaseContract;
 import art.coded.givetrack.data.DatabaseManager;
 import art.coded.givetrack.data.entry.Company;
+import art.coded.givetrack.data.entry.CursorMapper;
 import art.coded.givetrack.data.entry.Spawn;
 import art.coded.givetrack.data.entry.User;
 
@@ -48,6 +49,7 @@ import com.google.android.gms.ads.AdView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.snackbar.Snackbar;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static art.coded.givetrack.data.DatabaseContract.LOADER_ID_SPAWN;
@@ -190,7 +192,7 @@ public class SpawnActivity extends AppCompatActivity implements
      */
     @NonNull @Override public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         switch (id) {
-            case LOADER_ID_TARGET: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
+            case LOADER_ID_TARGET: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_TARGET, DatabaseContract.CompanyEntry.PROJECTION_ID, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
             case LOADER_ID_SPAWN: return new CursorLoader(this, DatabaseContract.CompanyEntry.CONTENT_URI_SPAWN, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { mUser.getUid() }, null);
             case LOADER_ID_USER: return new CursorLoader(this, DatabaseContract.UserEntry.CONTENT_URI_USER, null, DatabaseContract.UserEntry.COLUMN_USER_ACTIVE + " = ? ", new String[] { "1" }, null);
             default: throw new RuntimeException(this.getString(R.string.loader_error_message, id));
@@ -224,9 +226,10 @@ public class SpawnActivity extends AppCompatActivity implements
                 mValuesArray = new Spawn[data.getCount()];
 //                if (!mInstanceStateRestored) {
                     int i = 0;
+                    CursorMapper<Spawn> spawnMapper = CursorMapper.of(Spawn.class, data);
                     do {
                         Spawn spawn = Spawn.getDefault();
-                        AppUtilities.cursorRowToEntry(data, spawn);
+                        spawnMapper.read(data, spawn);
                         mValuesArray[i++] = spawn;
                     } while (data.moveToNext());
                     mAdapter.swapValues(mValuesArray);
@@ -246,9 +249,10 @@ public class SpawnActivity extends AppCompatActivity implements
                 break;
             case DatabaseContract.LOADER_ID_USER:
                 if (data.moveToFirst()) {
+                    CursorMapper<User> userMapper = CursorMapper.of(User.class, data);
                     do {
                         User user = User.getDefault();
-                        AppUtilities.cursorRowToEntry(data, user);
+                        userMapper.read(data, user);
                         if (mUser != null && user.getTargetStamp() != mUser.getTargetStamp() && isDualPane()) {
                             Bundle bundle = new Bundle();
                             bundle.putParcelable(DetailFragment.ARG_ITEM_COMPANY, mValuesArray[mPanePosition]);
@@ -448,6 +452,7 @@ public class SpawnActivity extends AppCompatActivity implements
     class ListAdapter extends RecyclerView.Adapter<ListAdapter.ViewHolder> {
 
         private Spawn[] mValuesArray;
+        private final ListDiffer<Spawn> mDiffer;
 
         /**
          * Instantiates the {@link RecyclerView.Adapter} and locks requests to populate
@@ -456,6 +461,9 @@ public class SpawnActivity extends AppCompatActivity implements
         ListAdapter(Spawn[] valuesArray) {
             super();
             mValuesArray = valuesArray;
+            mDiffer = new ListDiffer<>(this, 0, Spawn::getEin, spawn -> Arrays.asList(
+                    spawn.getName(), spawn.getLocationCity(), spawn.getLocationState(), spawn.getLocationZip(), spawn.getHomepageUrl()));
+            mDiffer.present(valuesArray != null ? Arrays.asList(valuesArray) : null);
             mLock = true;
         }
 
@@ -519,11 +527,10 @@ public class SpawnActivity extends AppCompatActivity implements
         }
 
         /**
-         * Swaps the Cursor after completing a load or resetting Loader.
+         * Swaps the values after completing a load or resetting Loader, updating only the items that differ.
          */
         private void swapValues(Spawn[] valuesArray) {
-            mValuesArray = valuesArray;
-            notifyDataSetChanged();
+            mDiffer.submit(valuesArray != null ? Arrays.asList(valuesArray) : null, () -> mValuesArray = valuesArray);
         }
 
         /**
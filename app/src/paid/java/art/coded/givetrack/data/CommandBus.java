@@ -0,0 +1,178 @@
+package art.coded.givetrack.data;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.Pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import timber.log.Timber;
+
+/**
+ * Runs data commands in process on separate lanes so that commands on one lane do not wait
+ * behind those on another; each lane runs its commands in order of priority, then of posting.
+ * Keyed commands still waiting are coalesced with later commands of the same key, provided
+ * no unkeyed command has been posted to the lane in between.
+ */
+public final class CommandBus {
+
+    public static final int PRIORITY_LOW = -1;
+    public static final int PRIORITY_DEFAULT = 0;
+    public static final int PRIORITY_HIGH = 1;
+
+    private static final int NETWORK_THREADS = 3;
+    private static final AtomicLong sSequence = new AtomicLong();
+
+    /**
+     * Lanes on which commands run independently of one another.
+     * {@link #INTERACTIVE} runs writes requested by the user one at a time, {@link #SYNC} runs
+     * synchronization with the remote database one at a time and {@link #NETWORK} runs requests
+     * to and enrichment from external sources concurrently.
+     */
+    enum Lane {
+
+        INTERACTIVE(1), SYNC(1), NETWORK(NETWORK_THREADS);
+
+        private final ThreadPoolExecutor mExecutor;
+        private final Map<String, Command> mPending = new HashMap<>(); // Keyed commands not yet started
+        private long mBarrier = -1; // Sequence of the latest unkeyed command, across which keyed commands are not coalesced
+
+        Lane(int threads) {
+            String name = "givetrack-" + name().toLowerCase();
+            mExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new PriorityBlockingQueue<>(), runnable -> new Thread(runnable, name));
+        }
+    }
+
+    private CommandBus() {}
+
+    /**
+     * Posts an action to run on the given lane once commands of higher priority,
+     * and those of equal priority posted earlier, have run.
+     * @param lane {@link Lane} on which to run the action
+     * @param priority precedence over other commands waiting on the lane
+     * @param action operation to be run
+     * @return {@link Command} with which to cancel or await the action
+     */
+    static Command post(Lane lane, int priority, Runnable action) {
+        synchronized (lane) {
+            Command command = new Command(lane, null, action, priority);
+            lane.mBarrier = command.mSequence;
+            lane.mExecutor.execute(command);
+            return command;
+        }
+    }
+
+    /**
+     * Posts an action which supersedes any waiting command of the same key, cancelling it
+     * so that only the latest of consecutive writes to the same entries runs.
+     * @param key identifies the action and entries written
+     * @return {@link Command} with which to cancel or await the action
+     * @see #post(Lane, int, Runnable)
+     */
+    static Command postLatest(Lane lane, int priority, String key, Runnable action) {
+        synchronized (lane) {
+            Command pending = getCoalescible(lane, key);
+            if (pending != null) pending.cancel(false);
+            return postKeyed(lane, priority, key, action);
+        }
+    }
+
+    /**
+     * Posts an action unless a command of the same key is waiting, in which case that command
+     * is returned so that a single run serves each of consecutive requests for the same entries.
+     * @param key identifies the action and entries read
+     * @return {@link Command} with which to cancel or await the action, shared by coalesced requests
+     * @see #post(Lane, int, Runnable)
+     */
+    static Command postOnce(Lane lane, int priority, String key, Runnable action) {
+        synchronized (lane) {
+            Command pending = getCoalescible(lane, key);
+            if (pending != null) return pending;
+            return postKeyed(lane, priority, key, action);
+        }
+    }
+
+    private static Command getCoalescible(Lane lane, String key) {
+        Command pending = lane.mPending.get(key);
+        if (pending == null || pending.isCancelled() || pending.mSequence < lane.mBarrier) return null;
+        return pending;
+    }
+
+    private static Command postKeyed(Lane lane, int priority, String key, Runnable action) {
+        Command command = new Command(lane, key, action, priority);
+        lane.mPending.put(key, command);
+        lane.mExecutor.execute(command);
+        return command;
+    }
+
+    /**
+     * Returns the executor of a lane for running continuations in order with its commands.
+     */
+    static Executor getExecutor(Lane lane) {
+        return runnable -> post(lane, PRIORITY_DEFAULT, runnable);
+    }
+
+    /**
+     * Posted action which may be cancelled before it runs, awaited with {@link #get()}
+     * or observed with listeners notified once it completes or is cancelled.
+     */
+    public static final class Command extends FutureTask<Void> implements Comparable<Command> {
+
+        private final Lane mLane;
+        private final String mKey; // null where not coalesced
+        private final int mPriority;
+        private final long mSequence;
+        private List<Pair<Runnable, Executor>> mListeners = new ArrayList<>(); // null once done
+
+        private Command(Lane lane, String key, Runnable action, int priority) {
+            super(action, null);
+            mLane = lane;
+            mKey = key;
+            mPriority = priority;
+            mSequence = sSequence.getAndIncrement();
+        }
+
+        @Override public void run() {
+            if (mKey != null) synchronized (mLane) {
+                if (mLane.mPending.get(mKey) == this) mLane.mPending.remove(mKey);
+            } super.run();
+        }
+
+        /**
+         * Registers a listener to be run on the given executor once this command is done,
+         * running it immediately where this command is already done.
+         */
+        public void addListener(@NonNull Runnable listener, @NonNull Executor executor) {
+            synchronized (this) {
+                if (mListeners != null) { mListeners.add(new Pair<>(listener, executor)); return; }
+            } executor.execute(listener);
+        }
+
+        @Override protected void done() {
+            if (!isCancelled()) {
+                try { get(); } // returns immediately as this command is done
+                catch (ExecutionException|InterruptedException e) { Timber.e(e.getCause()); }
+            }
+            List<Pair<Runnable, Executor>> listeners;
+            synchronized (this) {
+                listeners = mListeners;
+                mListeners = null;
+            } for (Pair<Runnable, Executor> listener : listeners) listener.second.execute(listener.first);
+        }
+
+        @Override public int compareTo(Command other) {
+            if (mPriority != other.mPriority) return Integer.compare(other.mPriority, mPriority);
+            return Long.compare(mSequence, other.mSequence);
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package art.coded.givetrack.data;
 
+import android.content.ContentProviderOperation;
 import android.content.ContentResolver;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.OperationApplicationException;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.RemoteException;
+import android.text.TextUtils;
 
 import java.lang.reflect.Array;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.Set;
 
 import art.coded.givetrack.AppUtilities;
 import art.coded.givetrack.AppWidget;
@@ -34,19 +38,41 @@ import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
 import com.google.firebase.database.ValueEventListener;
 
 import androidx.annotation.NonNull;
 import androidx.core.util.Pair;
+import timber.log.Timber;
 
 /**
  * Accesses and simultaneously operates on local and remote databases to manage user requests.
  */
 final class DatabaseAccessor {
 
+    // Remote path to removal times of company entries keyed by type, user and entry ID
+    private static final String PATH_REMOVAL = "removal";
+    // Remote path to profiles of the companies referenced by targets and records keyed by user and EIN
+    private static final String PATH_COMPANY = "company";
+    // Removal key standing in for every entry of a type where the entries of a user were cleared
+    private static final String KEY_ALL = "all";
+    // Arguments bound to a single statement, within the limit of 999 on SQLite before 3.32
+    private static final int MAX_SELECTION_ARGS = 500;
+
+    private static final Object sUserLock = new Object();
+    private static User sActiveUser; // Active user cached from local database; null until queried or invalidated
+    private static int sActiveUserVersion; // Advanced on invalidation to discard queries overlapping writes
+    private static boolean sAuthObserved;
+
+    private static String sRemoteUid; // Uid of the remote user entry to which sRemoteListener is subscribed
+    private static DatabaseReference sRemoteReference;
+    private static ValueEventListener sRemoteListener;
+    private static TaskCompletionSource<User> sRemoteSource; // Completed by the first snapshot of the subscription
+    private static User sRemoteUser; // Remote user entry kept current by the subscription; null until received
+    private static Set<Class<?>> sRemoteAwaiting; // Entry types with a validation awaiting the first snapshot
+
     static void fetchSpawn(Context context) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         User user =  getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
 
@@ -99,10 +125,10 @@ final class DatabaseAccessor {
         long stamp = System.currentTimeMillis();
         removeEntriesFromLocal(local, Spawn.class, stamp);
         addEntriesToLocal(local, Spawn.class, stamp, parsedResponse);
-        addEntriesToRemote(remote, Spawn.class, stamp, parsedResponse);
+        addEntriesToRemote(local, Spawn.class, stamp, parsedResponse);
     }
 
-    @SafeVarargs static List<Spawn> getSpawn(Context context, Pair<String, String>... where) {
+    @SafeVarargs static List<Spawn> getSpawn(Context context, String[] projection, Pair<String, String>... where) {
         ContentResolver local = context.getContentResolver();
 
         User activeUser = getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
@@ -121,7 +147,7 @@ final class DatabaseAccessor {
         String[] selectionArgs = selectionArgList.toArray(new String[0]);
 
         Cursor cursor = local.query(
-                contentUri, null, selection, selectionArgs, null
+                contentUri, projection, selection, selectionArgs, null
         );
         List<Spawn> entries = AppUtilities.getEntryListFromCursor(cursor, Spawn.class);
         if (cursor != null) cursor.close();
@@ -150,7 +176,7 @@ final class DatabaseAccessor {
         AppWidget.refresh(context);
     }
 
-    @SafeVarargs static List<Target> getTarget(Context context, Pair<String, String>... where) {
+    @SafeVarargs static List<Target> getTarget(Context context, String[] projection, Pair<String, String>... where) {
         ContentResolver local = context.getContentResolver();
 
         User activeUser = getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
@@ -169,7 +195,7 @@ final class DatabaseAccessor {
         String[] selectionArgs = selectionArgList.toArray(new String[0]);
 
         Cursor cursor = local.query(
-                contentUri, null, selection, selectionArgs, null
+                contentUri, projection, selection, selectionArgs, null
         );
         List<Target> entries = AppUtilities.getEntryListFromCursor(cursor, Target.class);
         if (cursor != null) cursor.close();
@@ -178,22 +204,53 @@ final class DatabaseAccessor {
 
     static void addTarget(Context context, Target... entries) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
+        setEntriesModified(stamp, entries);
         addEntriesToLocal(local, Target.class, stamp, entries);
-        addEntriesToRemote(remote, Target.class, stamp, entries);
+        addEntriesToRemote(local, Target.class, stamp, entries);
+        AppWidget.refresh(context);
+    }
+
+    // Writes the percentage of each target with the given ID and its modified time alone, rather than
+    // every field of each target, locally and to the outbox in one transaction with one change notification
+    static void updateTargetPercent(Context context, String uid, String[] ids, double[] percents) {
+        if (uid == null || uid.isEmpty() || ids.length == 0) return;
+        ContentResolver local = context.getContentResolver();
+
+        long stamp = System.currentTimeMillis();
+        String userPath = getRemotePath(Target.class.getSimpleName().toLowerCase(), uid);
+        String selection = CompanyEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_STAMP + " = ? ";
+
+        Map<String, Object> update = new HashMap<>();
+        ArrayList<ContentProviderOperation> operations = new ArrayList<>(ids.length + 1);
+        for (int i = 0; i < ids.length; i++) {
+            String percent = String.valueOf(percents[i]);
+            operations.add(ContentProviderOperation.newUpdate(CompanyEntry.CONTENT_URI_TARGET)
+                    .withSelection(selection, new String[] { uid, ids[i] })
+                    .withValue(CompanyEntry.COLUMN_PERCENT, percent)
+                    .withValue(CompanyEntry.COLUMN_MODIFIED, stamp).build());
+            String entryPath = getRemotePath(userPath, ids[i]);
+            update.put(getRemotePath(entryPath, CompanyEntry.COLUMN_PERCENT), percent);
+            update.put(getRemotePath(entryPath, CompanyEntry.COLUMN_MODIFIED), stamp);
+        }
+        stageRemoteTableTime(update, Target.class, stamp, uid);
+        operations.add(ContentProviderOperation.newInsert(OutboxEntry.CONTENT_URI_OUTBOX)
+                .withValues(toOutboxValues(update)).build());
+
+        try { local.applyBatch(DatabaseContract.AUTHORITY, operations); }
+        catch (RemoteException|OperationApplicationException e) { Timber.e(e); return; }
+        updateLocalTableTime(local, Target.class, stamp, uid);
         AppWidget.refresh(context);
     }
 
     static void removeTarget(Context context, Target... target) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
 
         removeEntriesFromLocal(local, Target.class, stamp, target);
-        removeEntriesFromRemote(remote, Target.class, stamp, target);
+        removeEntriesFromRemote(local, Target.class, stamp, target);
         AppWidget.refresh(context);
     }
 
@@ -205,7 +262,7 @@ final class DatabaseAccessor {
         AppWidget.refresh(context);
     }
 
-    @SafeVarargs static List<Record> getRecord(Context context, Pair<String, String>... where) {
+    @SafeVarargs static List<Record> getRecord(Context context, String[] projection, Pair<String, String>... where) {
         ContentResolver local = context.getContentResolver();
 
         User activeUser = getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
@@ -224,7 +281,7 @@ final class DatabaseAccessor {
         String[] selectionArgs = selectionArgList.toArray(new String[0]);
 
         Cursor cursor = local.query(
-                contentUri, null, selection, selectionArgs, null
+                contentUri, projection, selection, selectionArgs, null
         );
         List<Record> entries = AppUtilities.getEntryListFromCursor(cursor, Record.class);
 
@@ -234,21 +291,58 @@ final class DatabaseAccessor {
 
     static void addRecord(Context context, Record... entries) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
+        setEntriesModified(stamp, entries);
         addEntriesToLocal(local, Record.class, stamp, entries);
-        addEntriesToRemote(remote, Record.class, stamp, entries);
+        addEntriesToRemote(local, Record.class, stamp, entries);
         AppWidget.refresh(context);
     }
 
     static void removeRecord(Context context, Record... record) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
         removeEntriesFromLocal(local, Record.class, stamp, record);
-        removeEntriesFromRemote(remote, Record.class, stamp,  record);
+        removeEntriesFromRemote(local, Record.class, stamp,  record);
+        AppWidget.refresh(context);
+    }
+
+    static void recordTarget(Context context, User user, Target[] targets, Record[] records) {
+        ContentResolver local = context.getContentResolver();
+
+        long stamp = System.currentTimeMillis();
+        DataUtilities.setTableTime(Target.class, user, stamp);
+        DataUtilities.setTableTime(Record.class, user, stamp);
+        DataUtilities.setTableTime(User.class, user, stamp);
+        setEntriesModified(stamp, targets);
+        setEntriesModified(stamp, records);
+
+        // Writes targets, records and user stamps in one transaction with one change notification
+        ArrayList<ContentProviderOperation> operations = new ArrayList<>(targets.length + records.length + 2);
+        for (Target target : targets) {
+            if (target == null) continue;
+            operations.add(ContentProviderOperation.newInsert(CompanyEntry.CONTENT_URI_TARGET)
+                    .withValues(target.toContentValues()).build());
+        }
+        for (Record record : records) {
+            if (record == null) continue;
+            operations.add(ContentProviderOperation.newInsert(CompanyEntry.CONTENT_URI_RECORD)
+                    .withValues(record.toContentValues()).build());
+        }
+        operations.add(ContentProviderOperation.newInsert(UserEntry.CONTENT_URI_USER)
+                .withValues(user.toContentValues()).build());
+
+        // Queues targets, records and user stamps for remote delivery in one round trip
+        Map<String, Object> update = new HashMap<>();
+        stageEntriesToRemote(update, Target.class, stamp, user.getUid(), targets);
+        stageEntriesToRemote(update, Record.class, stamp, user.getUid(), records);
+        stageEntriesToRemote(update, User.class, stamp, user.getUid(), user);
+        operations.add(ContentProviderOperation.newInsert(OutboxEntry.CONTENT_URI_OUTBOX)
+                .withValues(toOutboxValues(update)).build());
+
+        try { local.applyBatch(DatabaseContract.AUTHORITY, operations); }
+        catch (RemoteException|OperationApplicationException e) { Timber.e(e); return; }
         AppWidget.refresh(context);
     }
 
@@ -257,37 +351,68 @@ final class DatabaseAccessor {
         FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         validateEntries(local, remote, User.class);
+        OutboxWorker.schedule(context); // Delivers updates left queued where scheduling was interrupted
     }
 
     static List<User> getUser(Context context) {
         ContentResolver local = context.getContentResolver();
 
-        User activeUser = getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
-        Uri contentUri = UserEntry.CONTENT_URI_USER;
-        Cursor cursor = local.query(
-                contentUri, null, CompanyEntry.COLUMN_UID + " = ? ", new String[] { activeUser.getUid() }, null
-        );
-        List<User> entries = AppUtilities.getEntryListFromCursor(cursor, User.class);
-        if (cursor != null) cursor.close();
+        FirebaseAuth auth = FirebaseAuth.getInstance();
+        User activeUser = getActiveUserFromLocal(auth, local);
+        List<User> entries = new ArrayList<>();
+        // Copies cached user so that callers may modify it; default user is not stored locally
+        if (activeUser.getUid().equals(auth.getUid())) entries.add(new User(activeUser));
         return entries;
     }
 
     static void addUser(Context context, User... entries) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
         addEntriesToLocal(local, User.class, stamp, entries);
-        addEntriesToRemote(remote, User.class, stamp, entries);
+        addEntriesToRemote(local, User.class, stamp, entries);
     }
 
     static void removeUser(Context context, User... user) {
         ContentResolver local = context.getContentResolver();
-        FirebaseDatabase remote = FirebaseDatabase.getInstance();
 
         long stamp = System.currentTimeMillis();
         removeEntriesFromLocal(local, User.class, stamp, user);
-        removeEntriesFromRemote(remote, User.class, stamp, user);
+        removeEntriesFromRemote(local, User.class, stamp, user);
+    }
+
+    // Removes the entries of every type belonging to each user, or else the active user, along with the user
+    static void removeUserData(Context context, User... users) {
+        ContentResolver local = context.getContentResolver();
+
+        if (users == null || users.length == 0) users = new User[] { getActiveUserFromLocal(FirebaseAuth.getInstance(), local) };
+
+        long stamp = System.currentTimeMillis();
+        Uri[] contentUris = {
+                CompanyEntry.CONTENT_URI_SPAWN, CompanyEntry.CONTENT_URI_TARGET, CompanyEntry.CONTENT_URI_RECORD, UserEntry.CONTENT_URI_USER
+        };
+
+        ArrayList<ContentProviderOperation> operations = new ArrayList<>(users.length * contentUris.length);
+        Map<String, Object> update = new HashMap<>();
+        for (User user : users) {
+            String uid = user.getUid();
+            if (uid == null || uid.isEmpty()) continue;
+            for (Uri contentUri : contentUris) {
+                operations.add(ContentProviderOperation.newDelete(contentUri)
+                        .withSelection(UserEntry.COLUMN_UID + " = ? ", new String[] { uid }).build());
+            }
+            // Stages user removal first so that table times are not written beneath it
+            stageRemovalsFromRemote(update, User.class, stamp, uid);
+            stageRemovalsFromRemote(update, Target.class, stamp, uid);
+            stageRemovalsFromRemote(update, Record.class, stamp, uid);
+            update.put(getRemotePath(PATH_COMPANY, uid), null);
+        }
+        if (!update.isEmpty()) operations.add(ContentProviderOperation.newInsert(OutboxEntry.CONTENT_URI_OUTBOX)
+                .withValues(toOutboxValues(update)).build());
+
+        try { local.applyBatch(DatabaseContract.AUTHORITY, operations); }
+        catch (RemoteException|OperationApplicationException e) { Timber.e(e); return; }
+        AppWidget.refresh(context);
     }
 
     @SafeVarargs private static <T extends Entry> void addEntriesToLocal(ContentResolver local, Class<T> entryType, long stamp, T... entries) {
@@ -316,34 +441,15 @@ final class DatabaseAccessor {
         updateLocalTableTime(local, entryType, stamp, uid);
     }
 
-    @SafeVarargs private static <T extends Entry> void addEntriesToRemote(FirebaseDatabase remote, Class<T> entryType, long stamp,  T... entries) {
-
-        if (entryType == Spawn.class) return;
-
-        String entryPath = entryType.getSimpleName().toLowerCase();
-        DatabaseReference typeReference = remote.getReference(entryPath);
+    @SafeVarargs private static <T extends Entry> void addEntriesToRemote(ContentResolver local, Class<T> entryType, long stamp,  T... entries) {
 
         String uid = "";
-        if (entries == null || entries.length == 0) {
-            uid = getActiveUserFromRemote(FirebaseAuth.getInstance(), remote).getUid();
-        } else if (entries[0] != null) uid = entries[0].getUid();
-
-        if (uid == null || uid.isEmpty()) return;
+        if (entries == null || entries.length == 0) uid = FirebaseAuth.getInstance().getUid();
+        else if (entries[0] != null) uid = entries[0].getUid();
 
-        DatabaseReference userReference = typeReference.child(uid);
-
-//        if (reset) userReference.removeValue();
-
-        DatabaseReference entryReference;
-        if (entries != null && entries.length > 0) {
-            for (T entry : entries) {
-                if (entry == null) continue;
-                entryReference = userReference;
-                if (entry instanceof Company) entryReference = entryReference.child(entry.getId());
-                entryReference.updateChildren(entry.toParameterMap());
-            }
-        }
-        updateRemoteTableTime(remote, entryType, stamp, uid);
+        Map<String, Object> update = new HashMap<>();
+        stageEntriesToRemote(update, entryType, stamp, uid, entries);
+        queueRemoteUpdate(local, update);
     }
 
     @SafeVarargs private static <T extends Entry> void removeEntriesFromLocal(ContentResolver local, Class<T> entryType, long stamp, T... entries) {
@@ -356,86 +462,275 @@ final class DatabaseAccessor {
             local.delete(contentUri, UserEntry.COLUMN_UID + " = ?", new String[] { uid });
             local.notifyChange(contentUri, null);
         } else {
-                if (entries[0] != null) uid = entries[0].getUid();
-                for (Entry entry : entries) {
-                    if (entry == null) continue;
-                    Uri rowUri = contentUri.buildUpon().appendPath(String.valueOf(entry.getId())).build();
-                    local.delete(rowUri, null, null);
-                    local.notifyChange(rowUri, null);
-            }
+            if (entries[0] != null) uid = entries[0].getUid();
+            // Deletes the entries by ID in one transaction with one change notification
+            String idColumn = entryType == User.class ? UserEntry.COLUMN_UID : CompanyEntry.COLUMN_STAMP;
+            List<String> ids = new ArrayList<>(entries.length);
+            for (Entry entry : entries) if (entry != null) ids.add(entry.getId());
+            try { local.applyBatch(DatabaseContract.AUTHORITY, buildDeletions(contentUri, idColumn, ids)); }
+            catch (RemoteException|OperationApplicationException e) { Timber.e(e); return; }
         }
         // Do not update user stamp to prevent recreating user entry on account deletion
         if (entryType != User.class) updateLocalTableTime(local, entryType, stamp, uid);
     }
 
-    @SafeVarargs private static <T extends Entry> void removeEntriesFromRemote(FirebaseDatabase remote, Class<T> entryType, long stamp, T... entries) {
-
-        if (entryType == Spawn.class) return;
+    // Builds deletions of the rows whose column holds any of the values, split so that
+    // each statement stays within the limit on bound arguments
+    static ArrayList<ContentProviderOperation> buildDeletions(Uri contentUri, String column, List<String> values) {
+
+        ArrayList<ContentProviderOperation> operations = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += MAX_SELECTION_ARGS) {
+            List<String> chunk = values.subList(start, Math.min(start + MAX_SELECTION_ARGS, values.size()));
+            StringBuilder placeholders = new StringBuilder("?");
+            for (int i = 1; i < chunk.size(); i++) placeholders.append(", ?");
+            operations.add(ContentProviderOperation.newDelete(contentUri)
+                    .withSelection(column + " IN (" + placeholders + ")", chunk.toArray(new String[0])).build());
+        } return operations;
+    }
 
-        String entryPath = entryType.getSimpleName().toLowerCase();
-        DatabaseReference typeReference = remote.getReference(entryPath);
+    @SafeVarargs private static <T extends Entry> void removeEntriesFromRemote(ContentResolver local, Class<T> entryType, long stamp, T... entries) {
 
         String uid = "";
-        if (entries == null || entries.length == 0) {
-            uid = getActiveUserFromRemote(FirebaseAuth.getInstance(), remote).getUid();
-        } else if (entries[0] != null) uid = entries[0].getUid();
+        if (entries == null || entries.length == 0) uid = FirebaseAuth.getInstance().getUid();
+        else if (entries[0] != null) uid = entries[0].getUid();
+
+        Map<String, Object> update = new HashMap<>();
+        stageRemovalsFromRemote(update, entryType, stamp, uid, entries);
+        queueRemoteUpdate(local, update);
+    }
+
+    // Adds to a multi-location update the path of each field of the entries, merging into rather than
+    // replacing remote entries, along with the table time
+    @SafeVarargs private static <T extends Entry> void stageEntriesToRemote(Map<String, Object> update, Class<T> entryType, long stamp, String uid, T... entries) {
 
-        DatabaseReference userReference = typeReference.child(uid);
+        if (entryType == Spawn.class || uid == null || uid.isEmpty()) return;
+        String userPath = getRemotePath(entryType.getSimpleName().toLowerCase(), uid);
+
+        if (entries != null) {
+            for (T entry : entries) {
+                if (entry == null) continue;
+                String entryPath = entry instanceof Company ? getRemotePath(userPath, entry.getId()) : userPath;
+                Map<String, Object> fields = entry.toParameterMap();
+                if (entry instanceof Company) stageProfileToRemote(update, uid, ((Company) entry).getEin(), fields);
+                for (Map.Entry<String, Object> field : fields.entrySet()) {
+                    update.put(getRemotePath(entryPath, field.getKey()), field.getValue());
+                }
+            }
+        } stageRemoteTableTime(update, entryType, stamp, uid);
+    }
+
+    // Adds to a multi-location update the paths removing the entries, or else every entry of the user,
+    // along with the removal times of company entries
+    @SafeVarargs private static <T extends Entry> void stageRemovalsFromRemote(Map<String, Object> update, Class<T> entryType, long stamp, String uid, T... entries) {
+
+        if (entryType == Spawn.class || uid == null || uid.isEmpty()) return;
+        String typePath = entryType.getSimpleName().toLowerCase();
+        String userPath = getRemotePath(typePath, uid);
+        String removalPath = getRemotePath(PATH_REMOVAL, typePath, uid);
 
-        DatabaseReference entryReference;
         if (entries == null || entries.length == 0) {
-            User user = getActiveUserFromRemote(FirebaseAuth.getInstance(), remote);
-            uid = user.getUid();
-            if (uid == null || uid.isEmpty()) return;
-            userReference.removeValue();
+            update.put(userPath, null);
+            // Replaces removals of single entries as those preceding the clear no longer need be applied
+            if (entryType != User.class) update.put(removalPath, Collections.singletonMap(KEY_ALL, stamp));
         } else {
             for (T entry : entries) {
                 if (entry == null) continue;
-                entryReference = userReference;
-                if (entry instanceof Company) entryReference = entryReference.child(entry.getId());
-                entryReference.removeValue();
+                if (entry instanceof Company) {
+                    update.put(getRemotePath(userPath, entry.getId()), null);
+                    update.put(getRemotePath(removalPath, entry.getId()), stamp);
+                } else update.put(userPath, null);
             }
         }
         // Do not update user stamp to prevent recreating user entry on account deletion
-        if (entryType != User.class) updateRemoteTableTime(remote, entryType, stamp, uid);
+        if (entryType != User.class) stageRemoteTableTime(update, entryType, stamp, uid);
     }
 
+    // Adds to a multi-location update the path replacing every remote entry of the user with the entries
+    @SafeVarargs private static <T extends Entry> void stageReplacementToRemote(Map<String, Object> update, Class<T> entryType, long stamp, String uid, T... entries) {
+
+        if (entryType == Spawn.class || uid == null || uid.isEmpty()) return;
+        String typePath = entryType.getSimpleName().toLowerCase();
+
+        Map<String, Object> replacement = new HashMap<>();
+        for (T entry : entries) {
+            if (entry == null) continue;
+            if (entry instanceof Company) {
+                Map<String, Object> fields = entry.toParameterMap();
+                stageProfileToRemote(update, uid, ((Company) entry).getEin(), fields);
+                replacement.put(entry.getId(), fields);
+            } else {
+                replacement.putAll(entry.toParameterMap());
+                replacement.put(DataUtilities.getTimeTableColumn(entryType), stamp); // within the replaced path
+            }
+        }
+        update.put(getRemotePath(typePath, uid), replacement);
+        if (entryType != User.class) {
+            update.put(getRemotePath(PATH_REMOVAL, typePath, uid), Collections.singletonMap(KEY_ALL, stamp));
+            stageRemoteTableTime(update, entryType, stamp, uid);
+        }
+    }
+
+    // Moves the profile fields out of the fields of a target or record into a multi-location update at the paths
+    // of its EIN among the company profiles of the user, so that each profile is held once however many entries reference it
+    private static void stageProfileToRemote(Map<String, Object> update, String uid, String ein, Map<String, Object> fields) {
+
+        String profilePath = getRemotePath(PATH_COMPANY, uid, ein);
+        for (String column : CompanyEntry.COLUMNS_PROFILE) {
+            if (fields.containsKey(column)) update.put(getRemotePath(profilePath, column), fields.remove(column));
+        }
+    }
+
+    // Reads the company profiles of the user and copies each onto the entries of its EIN before continuing;
+    // entries whose EIN has no profile keep the profile fields held by entries written before profiles were held apart
+    private static <T extends Entry> void joinRemoteProfiles(FirebaseDatabase remote, Class<T> entryType, String uid, List<T> entries, Runnable next) {
+
+        if ((entryType != Target.class && entryType != Record.class) || entries.isEmpty()) { next.run(); return; }
+        remote.getReference(PATH_COMPANY).child(uid).addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                for (T entry : entries) {
+                    if (entry == null || ((Company) entry).getEin() == null) continue;
+                    DataSnapshot profile = dataSnapshot.child(((Company) entry).getEin());
+                    Spawn profileEntry = profile.exists() ? profile.getValue(Spawn.class) : null;
+                    if (profileEntry != null) ((Spawn) entry).copyProfile(profileEntry);
+                }
+                next.run();
+            }
+            @Override public void onCancelled(@NonNull DatabaseError databaseError) {
+                // Continues with the profile fields the entries hold rather than halting synchronization
+                Timber.w(databaseError.toException(), "Continuing without company profiles of %s", uid);
+                next.run();
+            }
+        });
+    }
+
+    // Adds to a multi-location update the path of the table time unless the user entry is itself replaced or removed
+    private static <T extends Entry> void stageRemoteTableTime(Map<String, Object> update, Class<T> entryType, long stamp, String uid) {
+
+        if (entryType.equals(Spawn.class) || uid == null || uid.isEmpty()) return;
+        String userPath = getRemotePath(User.class.getSimpleName().toLowerCase(), uid);
+        if (update.containsKey(userPath)) return; // paths may not be nested within a single update
+        update.put(getRemotePath(userPath, DataUtilities.getTimeTableColumn(entryType)), stamp);
+    }
+
+    // Queues the update for delivery by OutboxWorker, which writes every location atomically in one round trip
+    private static void queueRemoteUpdate(ContentResolver local, Map<String, Object> update) {
+        if (!update.isEmpty()) local.insert(OutboxEntry.CONTENT_URI_OUTBOX, toOutboxValues(update));
+    }
+
+    private static ContentValues toOutboxValues(Map<String, Object> update) {
+        ContentValues values = new ContentValues();
+        values.put(OutboxEntry.COLUMN_CHANGES, DataUtilities.mapToOutboxChanges(update));
+        values.put(OutboxEntry.COLUMN_QUEUED, System.currentTimeMillis());
+        return values;
+    }
+
+    private static String getRemotePath(String... segments) { return TextUtils.join("/", segments); }
+
+    // Marks company entries as changed at the time of the write to be transferred on synchronization
+    @SafeVarargs private static <T extends Entry> void setEntriesModified(long stamp, T... entries) {
+        if (entries == null) return;
+        for (T entry : entries) if (entry instanceof Company) ((Company) entry).setModified(stamp);
+    }
+
+    // Called on writes to the user table and on changes to authentication state
+    static void invalidateActiveUser() {
+        synchronized (sUserLock) {
+            sActiveUser = null;
+            sActiveUserVersion++;
+        }
+    }
+
+    // Returned instance may be cached and shared so should not be modified
     private static User getActiveUserFromLocal(FirebaseAuth auth, ContentResolver local) {
 
         String uid = auth.getUid();
+        int version;
+        synchronized (sUserLock) {
+            if (!sAuthObserved) {
+                auth.addAuthStateListener(firebaseAuth -> {
+                    invalidateActiveUser();
+                    if (firebaseAuth.getUid() == null) synchronized (sUserLock) { unsubscribeRemoteUser(); }
+                });
+                sAuthObserved = true;
+            }
+            if (sActiveUser != null && sActiveUser.getUid().equals(uid)) return sActiveUser;
+            version = sActiveUserVersion;
+        }
+
         User u = User.getDefault();
         Cursor data = local.query(UserEntry.CONTENT_URI_USER, null, UserEntry.COLUMN_UID + " = ?", new String[] { uid }, null);
         if (data == null) return u;
-        if (data.moveToFirst()) AppUtilities.cursorRowToEntry(data, u);
-        return u;
+        boolean found = data.moveToFirst();
+        if (found) AppUtilities.cursorRowToEntry(data, u);
+        data.close();
+
+        synchronized (sUserLock) {
+            if (found && version == sActiveUserVersion) sActiveUser = u;
+        } return u;
     }
 
-    private static User getActiveUserFromRemote(FirebaseAuth auth, FirebaseDatabase remote) {
+    // Resolves from the remote user entry, kept current by a subscription for the signed in user,
+    // without blocking the calling thread where the entry has yet to be received
+    private static Task<User> getActiveUserFromRemote(FirebaseAuth auth, FirebaseDatabase remote) {
 
         String uid = auth.getUid();
 
-        TaskCompletionSource<User> taskSource = new TaskCompletionSource<>();
+        synchronized (sUserLock) {
+            if (uid == null) {
+                unsubscribeRemoteUser();
+                return Tasks.forResult(User.getDefault());
+            }
+            if (!uid.equals(sRemoteUid)) subscribeRemoteUser(remote, uid);
+            if (sRemoteUser != null) return Tasks.forResult(sRemoteUser);
+            return sRemoteSource.getTask();
+        }
+    }
 
-        User u = User.getDefault();
-        if (uid == null) return u;
+    // Replaces any subscription to the entry of a previously signed in user; called while holding sUserLock
+    private static void subscribeRemoteUser(FirebaseDatabase remote, String uid) {
+
+        unsubscribeRemoteUser();
 
+        TaskCompletionSource<User> source = new TaskCompletionSource<>();
         DatabaseReference entryReference = remote.getReference(User.class.getSimpleName().toLowerCase()).child(uid);
-        entryReference.addValueEventListener(new ValueEventListener() {
+        ValueEventListener listener = new ValueEventListener() {
             @Override public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
                 User u = dataSnapshot.getValue(User.class);
                 if (u == null) u = User.getDefault();
-                taskSource.trySetResult(u);
-                entryReference.removeEventListener(this);
+                synchronized (sUserLock) {
+                    if (sRemoteListener != this) return; // superseded by subscription for another user
+                    sRemoteUser = u;
+                } source.trySetResult(u);
             }
-            @Override public void onCancelled(@NonNull DatabaseError databaseError) { }
-        });
+            @Override public void onCancelled(@NonNull DatabaseError databaseError) {
+                synchronized (sUserLock) {
+                    if (sRemoteListener != this) return;
+                    sRemoteUid = null; // resubscribes on next request
+                    sRemoteListener = null;
+                    sRemoteUser = null;
+                } source.trySetException(databaseError.toException());
+            }
+        };
+
+        sRemoteUid = uid;
+        sRemoteReference = entryReference;
+        sRemoteListener = listener;
+        sRemoteSource = source;
+        sRemoteUser = null;
+        sRemoteAwaiting = new HashSet<>();
+        entryReference.addValueEventListener(listener);
+    }
 
-        Task<User> task = taskSource.getTask();
-        try { Tasks.await(task, 2, TimeUnit.SECONDS); }
-        catch (ExecutionException|InterruptedException|TimeoutException e) { task = Tasks.forException(e); }
+    // Removes any subscription to the remote user entry, as on sign out; called while holding sUserLock
+    private static void unsubscribeRemoteUser() {
 
-        if (task.isSuccessful()) u = task.getResult();
-        return u;
+        if (sRemoteListener != null) sRemoteReference.removeEventListener(sRemoteListener);
+        sRemoteUid = null;
+        sRemoteReference = null;
+        sRemoteListener = null;
+        sRemoteSource = null;
+        sRemoteUser = null;
+        sRemoteAwaiting = null;
     }
 
     private static <T extends Entry> void updateLocalTableTime(ContentResolver local, Class<T> entryType, long stamp, String uid) {
@@ -449,16 +744,14 @@ final class DatabaseAccessor {
         local.notifyChange(uri, null);
     }
 
-    private static <T extends Entry> void updateRemoteTableTime(FirebaseDatabase remote, Class<T> entryType, long stamp, String uid) {
+    private static <T extends Entry> void updateRemoteTableTime(ContentResolver local, Class<T> entryType, long stamp, String uid) {
 
-        if (entryType.equals(Spawn.class) || uid == null || uid.isEmpty()) return;
-        Map<String, Object> entryMap = new HashMap<>();
-        entryMap.put(DataUtilities.getTimeTableColumn(entryType), stamp);
-        DatabaseReference userReference = remote.getReference(User.class.getSimpleName().toLowerCase());
-        userReference.child(uid).updateChildren(entryMap);
+        Map<String, Object> update = new HashMap<>();
+        stageRemoteTableTime(update, entryType, stamp, uid);
+        queueRemoteUpdate(local, update);
     }
 
-    private static <T extends Entry> void pullLocalToRemoteEntries(ContentResolver local, FirebaseDatabase remote, Class<T> entryType, long stamp, String uid) {
+    private static <T extends Entry> void pullLocalToRemoteEntries(ContentResolver local, Class<T> entryType, long stamp, String uid) {
         if (uid == null || uid.isEmpty()) return;
         Uri contentUri = DataUtilities.getContentUri(entryType);
         Cursor cursor = local.query(contentUri, null, UserEntry.COLUMN_UID + " = ? ", new String[]{ uid }, null);
@@ -470,9 +763,9 @@ final class DatabaseAccessor {
             ((User) entryList.get(0)).setUserActive(true);
             local.update(UserEntry.CONTENT_URI_USER.buildUpon().appendPath(uid).build(), entryList.get(0).toContentValues(), null, null);
         }
-        removeEntriesFromRemote(remote, entryType, stamp);
-        if (entryList.isEmpty()) return;
-        addEntriesToRemote(remote, entryType, stamp, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
+        Map<String, Object> update = new HashMap<>();
+        stageReplacementToRemote(update, entryType, stamp, uid, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
+        queueRemoteUpdate(local, update);
     }
 
     private static <T extends Entry> void pullRemoteToLocalEntries(ContentResolver local, FirebaseDatabase remote, Class<T> entryType, long stamp, String uid) {
@@ -497,29 +790,137 @@ final class DatabaseAccessor {
                         entryList.add(entry);
                     }
                 }
-                removeEntriesFromLocal(local, entryType, stamp);
-                if (entryList.isEmpty()) return;
-                addEntriesToLocal(local, entryType, stamp, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
-                pathReference.removeEventListener(this);
-                if (entryType == User.class) pathReference.child("userActive").setValue(true);
+                ValueEventListener listener = this;
+                joinRemoteProfiles(remote, entryType, uid, entryList, () -> {
+                    removeEntriesFromLocal(local, entryType, stamp);
+                    if (entryList.isEmpty()) return;
+                    addEntriesToLocal(local, entryType, stamp, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
+                    pathReference.removeEventListener(listener);
+                    if (entryType == User.class) pathReference.child("userActive").setValue(true);
+                });
             }
             @Override public void onCancelled(@NonNull DatabaseError databaseError) {}
         });
     }
 
+    // Transfers only local entries changed since the remote table was last updated
+    private static <T extends Entry> void pushLocalChangesToRemote(ContentResolver local, Class<T> entryType, long stamp, long since, String uid) {
+        if (uid == null || uid.isEmpty()) return;
+        Uri contentUri = DataUtilities.getContentUri(entryType);
+        Cursor cursor = local.query(contentUri, null,
+                UserEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_MODIFIED + " > ? ",
+                new String[]{ uid, String.valueOf(since) }, null);
+        if (cursor == null) return;
+        List<T> entryList = AppUtilities.getEntryListFromCursor(cursor, entryType);
+        cursor.close();
+        if (entryList.isEmpty()) updateRemoteTableTime(local, entryType, stamp, uid);
+        else addEntriesToRemote(local, entryType, stamp, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
+    }
+
+    // Applies only remote removals and changes made since the local table was last updated
+    private static <T extends Entry> void pullRemoteChangesToLocal(ContentResolver local, FirebaseDatabase remote, Class<T> entryType, long stamp, long since, String uid) {
+
+        if (uid == null || uid.isEmpty()) return;
+        String path = entryType.getSimpleName().toLowerCase();
+        Uri contentUri = DataUtilities.getContentUri(entryType);
+
+        Query removalQuery = remote.getReference(PATH_REMOVAL).child(path).child(uid).orderByValue().startAt(since + 1);
+        removalQuery.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                if (dataSnapshot.hasChild(KEY_ALL)) { // Entries were cleared so none can be assumed current
+                    pullRemoteToLocalEntries(local, remote, entryType, stamp, uid);
+                    return;
+                }
+                List<String> removals = new ArrayList<>();
+                for (DataSnapshot s : dataSnapshot.getChildren()) removals.add(s.getKey());
+                // Deletes the removals in one transaction off the main thread, then applies changes
+                CommandBus.getExecutor(CommandBus.Lane.SYNC).execute(() -> {
+                    if (!removals.isEmpty()) {
+                        try { local.applyBatch(DatabaseContract.AUTHORITY, buildDeletions(contentUri, CompanyEntry.COLUMN_STAMP, removals)); }
+                        catch (RemoteException|OperationApplicationException e) { Timber.e(e); return; }
+                    }
+                    pullRemoteChangesAfterRemovals(local, remote, entryType, stamp, since, uid);
+                });
+            }
+            @Override public void onCancelled(@NonNull DatabaseError databaseError) {
+                Timber.w(databaseError.toException(), "Pulling all %s entries after removals were not received", path);
+                pullRemoteToLocalEntries(local, remote, entryType, stamp, uid);
+            }
+        });
+    }
+
+    // Applied after removals so that entries since removed and added again are kept
+    private static <T extends Entry> void pullRemoteChangesAfterRemovals(ContentResolver local, FirebaseDatabase remote, Class<T> entryType, long stamp, long since, String uid) {
+
+        String path = entryType.getSimpleName().toLowerCase();
+        Uri contentUri = DataUtilities.getContentUri(entryType);
+
+        Query changeQuery = remote.getReference(path).child(uid).orderByChild(CompanyEntry.COLUMN_MODIFIED).startAt(since + 1);
+        changeQuery.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                List<T> entryList = new ArrayList<>();
+                for (DataSnapshot s : dataSnapshot.getChildren()) {
+                    T entry = s.getValue(entryType);
+                    if (entry != null) entryList.add(entry);
+                }
+                // Writes the changes on the sync lane rather than the main thread receiving them
+                joinRemoteProfiles(remote, entryType, uid, entryList, () -> CommandBus.getExecutor(CommandBus.Lane.SYNC).execute(() -> {
+                    if (!entryList.isEmpty()) addEntriesToLocal(local, entryType, stamp, entryList.toArray((T[]) Array.newInstance(entryType, entryList.size())));
+                    else {
+                        updateLocalTableTime(local, entryType, stamp, uid);
+                        local.notifyChange(contentUri, null);
+                    }
+                }));
+            }
+            @Override public void onCancelled(@NonNull DatabaseError databaseError) {
+                // As where the remote lacks an index on the time of change or denies the query
+                Timber.w(databaseError.toException(), "Pulling all %s entries after changes were not received", path);
+                pullRemoteToLocalEntries(local, remote, entryType, stamp, uid);
+            }
+        });
+    }
+
    private static <T extends Entry> void validateEntries(@NonNull ContentResolver local, @NonNull FirebaseDatabase remote, Class<T> entryType) {
 
+        Task<User> remoteUserTask;
+        Set<Class<?>> awaiting;
+        synchronized (sUserLock) {
+            remoteUserTask = getActiveUserFromRemote(FirebaseAuth.getInstance(), remote);
+            awaiting = remoteUserTask.isComplete() ? null : sRemoteAwaiting;
+            // A single validation of each type awaits the first snapshot however many fetches are requested meanwhile
+            if (awaiting != null && !awaiting.add(entryType)) return;
+        }
+
+        // Continues on the sync lane once the remote user is received rather than awaiting it
+        remoteUserTask.addOnCompleteListener(CommandBus.getExecutor(CommandBus.Lane.SYNC), task -> {
+            if (awaiting != null) synchronized (sUserLock) { awaiting.remove(entryType); }
+            User remoteUser = task.isSuccessful() ? task.getResult() : null;
+            if (remoteUser == null) { // as where the subscription is cancelled
+                Timber.w(task.getException(), "Validating %s entries against the default remote user", entryType.getSimpleName());
+                remoteUser = User.getDefault();
+            }
+            validateEntries(local, remote, entryType, remoteUser);
+        });
+    }
+
+    private static <T extends Entry> void validateEntries(@NonNull ContentResolver local, @NonNull FirebaseDatabase remote, Class<T> entryType, User remoteUser) {
+
         User localUser = getActiveUserFromLocal(FirebaseAuth.getInstance(), local);
-        User remoteUser = getActiveUserFromRemote(FirebaseAuth.getInstance(), remote);
 
         long localTableStamp = DataUtilities.getTableTime(entryType, localUser);
         long remoteTableStamp = DataUtilities.getTableTime(entryType, remoteUser);
         int compareLocalToRemote = Long.compare(localTableStamp, remoteTableStamp);
+        // Transfers whole tables only where either has yet to be populated or entries are not stamped on change
+        boolean incremental = entryType != User.class && localTableStamp != 0 && remoteTableStamp != 0;
 
-        if (compareLocalToRemote < 0) pullRemoteToLocalEntries(local, remote, entryType, remoteTableStamp, remoteUser.getUid());
-        else {
-            if (compareLocalToRemote > 0 || (localTableStamp != 0 && entryType == User.class))
-                pullLocalToRemoteEntries(local, remote, entryType, localTableStamp, localUser.getUid()); // Ensures user active status is set to true where databases are initialized and equivalent
+        if (compareLocalToRemote < 0) {
+            if (incremental) pullRemoteChangesToLocal(local, remote, entryType, remoteTableStamp, localTableStamp, remoteUser.getUid());
+            else pullRemoteToLocalEntries(local, remote, entryType, remoteTableStamp, remoteUser.getUid());
+        } else {
+            if (compareLocalToRemote > 0 && incremental)
+                pushLocalChangesToRemote(local, entryType, localTableStamp, remoteTableStamp, localUser.getUid());
+            else if (compareLocalToRemote > 0 || (localTableStamp != 0 && entryType == User.class))
+                pullLocalToRemoteEntries(local, entryType, localTableStamp, localUser.getUid()); // Ensures user active status is set to true where databases are initialized and equivalent
             local.notifyChange(DataUtilities.getContentUri(entryType), null);
         }
     }
@@ -3,6 +3,7 @@ package art.coded.givetrack.data;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.text.TextUtils;
 import androidx.annotation.NonNull;
 
 import art.coded.givetrack.data.DatabaseContract.*;
@@ -13,7 +14,65 @@ import art.coded.givetrack.data.DatabaseContract.*;
 public class DatabaseOpener extends SQLiteOpenHelper {
 
     private static final String DATABASE_NAME = "givetrack.db";
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 5;
+
+    // Versions introducing schema changes to be migrated in order on upgrade
+    private static final int VERSION_INDEXES = 2;
+    private static final int VERSION_MODIFIED = 3;
+    private static final int VERSION_OUTBOX = 4;
+    private static final int VERSION_COMPANY = 5;
+
+    static final String INDEX_SPAWN_UID_EIN = "index_spawn_uid_ein";
+    static final String INDEX_TARGET_UID_EIN = "index_target_uid_ein";
+    static final String INDEX_TARGET_UID_PERCENT = "index_target_uid_percent";
+    static final String INDEX_RECORD_UID_EIN = "index_record_uid_ein";
+    static final String INDEX_RECORD_UID_TIME = "index_record_uid_time";
+    static final String INDEX_TARGET_UID_MODIFIED = "index_target_uid_modified";
+    static final String INDEX_RECORD_UID_MODIFIED = "index_record_uid_modified";
+
+    private static final String SQL_MODIFIED_DEFINITION = " INTEGER NOT NULL DEFAULT 0";
+    private static final String SUFFIX_REBUILT = "_rebuilt"; // Names tables replacing those whose columns are removed
+
+    // Columns kept by targets and records once their company profiles are held apart
+    private static final String[] COLUMNS_TARGET = {
+            CompanyEntry.COLUMN_STAMP, CompanyEntry.COLUMN_UID, CompanyEntry.COLUMN_EIN, CompanyEntry.COLUMN_IMPACT,
+            CompanyEntry.COLUMN_TYPE, CompanyEntry.COLUMN_PERCENT, CompanyEntry.COLUMN_FREQUENCY, CompanyEntry.COLUMN_MODIFIED };
+    private static final String[] COLUMNS_RECORD = {
+            CompanyEntry.COLUMN_STAMP, CompanyEntry.COLUMN_UID, CompanyEntry.COLUMN_EIN, CompanyEntry.COLUMN_IMPACT,
+            CompanyEntry.COLUMN_TYPE, CompanyEntry.COLUMN_MEMO, CompanyEntry.COLUMN_TIME, CompanyEntry.COLUMN_MODIFIED };
+
+    // Profiles are held for each user apart, as they are remotely
+    private static final String SQL_CREATE_COMPANY_TABLE =
+
+            "CREATE TABLE IF NOT EXISTS "                               +
+                    CompanyEntry.TABLE_NAME_COMPANY                     + " ("                                  +
+
+                    CompanyEntry.COLUMN_UID                             + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_EIN                             + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_NAME                            + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_LOCATION_STREET                 + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_LOCATION_DETAIL                 + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_LOCATION_CITY                   + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_LOCATION_STATE                  + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_LOCATION_ZIP                    + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_HOMEPAGE_URL                    + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_NAVIGATOR_URL                   + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_PHONE                           + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_EMAIL                           + " TEXT NOT NULL, "                    +
+                    CompanyEntry.COLUMN_SOCIAL                          + " TEXT NOT NULL, "                    +
+
+                    "PRIMARY KEY (" + CompanyEntry.COLUMN_UID + ", " + CompanyEntry.COLUMN_EIN +
+                    ") ON CONFLICT REPLACE" + ");";
+
+    // Autoincrementing IDs are never reused so that rows removed once delivered cannot be mistaken for later ones
+    private static final String SQL_CREATE_OUTBOX_TABLE =
+
+            "CREATE TABLE IF NOT EXISTS "                               +
+                    OutboxEntry.TABLE_NAME_OUTBOX                       + " ("                                  +
+
+                    OutboxEntry._ID                                     + " INTEGER PRIMARY KEY AUTOINCREMENT, "+
+                    OutboxEntry.COLUMN_CHANGES                          + " TEXT NOT NULL, "                    +
+                    OutboxEntry.COLUMN_QUEUED                           + " INTEGER NOT NULL"                   + ");";
 
     /**
      * Instantiates {@link SQLiteOpenHelper} extended by this class.
@@ -51,60 +110,7 @@ public class DatabaseOpener extends SQLiteOpenHelper {
                         CompanyEntry.COLUMN_SOCIAL                  + " TEXT NOT NULL,"                 +
                         CompanyEntry.COLUMN_IMPACT                  + " TEXT NOT NULL,"                 +
                         CompanyEntry.COLUMN_TYPE                    + " INTEGER NOT NULL,"              +
-
-                        "UNIQUE (" + CompanyEntry.COLUMN_STAMP +
-                        ") ON CONFLICT REPLACE" + ");";
-
-        final String SQL_CREATE_GIVE_TABLE =
-
-                "CREATE TABLE IF NOT EXISTS "                       +
-                        CompanyEntry.TABLE_NAME_TARGET              + " ("                              +
-
-                        CompanyEntry.COLUMN_STAMP                   + " INTEGER PRIMARY KEY NOT NULL,"  +
-                        CompanyEntry.COLUMN_UID                     + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_EIN                     + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_NAME                    + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_STREET         + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_DETAIL         + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_CITY           + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_STATE          + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_ZIP            + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_HOMEPAGE_URL            + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_NAVIGATOR_URL           + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_PHONE                   + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_EMAIL                   + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_SOCIAL                  + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_IMPACT                  + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_TYPE                    + " INTEGER NOT NULL,"              +
-                        CompanyEntry.COLUMN_PERCENT                 + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_FREQUENCY               + " INTEGER NOT NULL,"              +
-
-                        "UNIQUE (" + CompanyEntry.COLUMN_STAMP +
-                        ") ON CONFLICT REPLACE" + ");";
-
-        final String SQL_CREATE_RECORD_TABLE =
-
-                "CREATE TABLE IF NOT EXISTS "                       +
-                        CompanyEntry.TABLE_NAME_RECORD              + " ("                              +
-
-                        CompanyEntry.COLUMN_STAMP                   + " INTEGER PRIMARY KEY NOT NULL,"  +
-                        CompanyEntry.COLUMN_UID                     + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_EIN                     + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_NAME                    + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_STREET         + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_DETAIL         + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_CITY           + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_STATE          + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_LOCATION_ZIP            + " TEXT NOT NULL, "                +
-                        CompanyEntry.COLUMN_HOMEPAGE_URL            + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_NAVIGATOR_URL           + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_PHONE                   + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_EMAIL                   + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_SOCIAL                  + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_IMPACT                  + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_TYPE                    + " INTEGER NOT NULL,"              +
-                        CompanyEntry.COLUMN_MEMO                    + " TEXT NOT NULL,"                 +
-                        CompanyEntry.COLUMN_TIME                    + " INTEGER NOT NULL,"              +
+                        CompanyEntry.COLUMN_MODIFIED                + SQL_MODIFIED_DEFINITION + ","     +
 
                         "UNIQUE (" + CompanyEntry.COLUMN_STAMP +
                         ") ON CONFLICT REPLACE" + ");";
@@ -157,20 +163,176 @@ public class DatabaseOpener extends SQLiteOpenHelper {
                         ") ON CONFLICT REPLACE" + ");";
 
         db.execSQL(SQL_CREATE_SPAWN_TABLE);
-        db.execSQL(SQL_CREATE_GIVE_TABLE);
-        db.execSQL(SQL_CREATE_RECORD_TABLE);
+        db.execSQL(SQL_CREATE_COMPANY_TABLE);
+        db.execSQL(createTargetTable(CompanyEntry.TABLE_NAME_TARGET));
+        db.execSQL(createRecordTable(CompanyEntry.TABLE_NAME_RECORD));
         db.execSQL(SQL_CREATE_USER_TABLE);
+        db.execSQL(SQL_CREATE_OUTBOX_TABLE);
+        createIndexes(db);
+        createModifiedIndexes(db);
     }
 
     /**
-     * Removes and creates a new table on version upgrades.
+     * Migrates tables from the given version through each subsequent version without removing data.
      */
     @Override public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
 
-        db.execSQL("DROP TABLE IF EXISTS " + CompanyEntry.TABLE_NAME_SPAWN);
-        db.execSQL("DROP TABLE IF EXISTS " + CompanyEntry.TABLE_NAME_TARGET);
-        db.execSQL("DROP TABLE IF EXISTS " + CompanyEntry.TABLE_NAME_RECORD);
-        db.execSQL("DROP TABLE IF EXISTS " + UserEntry.TABLE_NAME_USER);
-        onCreate(db);
+        for (int version = oldVersion + 1; version <= newVersion; version++) {
+            switch (version) {
+                case VERSION_INDEXES: createIndexes(db); break;
+                case VERSION_MODIFIED: addModifiedColumns(db); break;
+                case VERSION_OUTBOX: db.execSQL(SQL_CREATE_OUTBOX_TABLE); break;
+                case VERSION_COMPANY: moveProfilesToCompanyTable(db); break;
+            }
+        }
+    }
+
+    /**
+     * Builds a statement that creates a target table of the given name referencing company profiles by EIN.
+     * @param tableName name of the table to create
+     * @return statement creating the table if it does not yet exist
+     */
+    private static String createTargetTable(String tableName) {
+
+        return "CREATE TABLE IF NOT EXISTS "                        +
+                tableName                                           + " ("                              +
+
+                CompanyEntry.COLUMN_STAMP                           + " INTEGER PRIMARY KEY NOT NULL,"  +
+                CompanyEntry.COLUMN_UID                             + " TEXT NOT NULL, "                +
+                CompanyEntry.COLUMN_EIN                             + " TEXT NOT NULL, "                +
+                CompanyEntry.COLUMN_IMPACT                          + " TEXT NOT NULL,"                 +
+                CompanyEntry.COLUMN_TYPE                            + " INTEGER NOT NULL,"              +
+                CompanyEntry.COLUMN_PERCENT                         + " TEXT NOT NULL,"                 +
+                CompanyEntry.COLUMN_FREQUENCY                       + " INTEGER NOT NULL,"              +
+                CompanyEntry.COLUMN_MODIFIED                        + SQL_MODIFIED_DEFINITION + ","     +
+
+                "UNIQUE (" + CompanyEntry.COLUMN_STAMP +
+                ") ON CONFLICT REPLACE" + ");";
+    }
+
+    /**
+     * Builds a statement that creates a record table of the given name referencing company profiles by EIN.
+     * @param tableName name of the table to create
+     * @return statement creating the table if it does not yet exist
+     */
+    private static String createRecordTable(String tableName) {
+
+        return "CREATE TABLE IF NOT EXISTS "                        +
+                tableName                                           + " ("                              +
+
+                CompanyEntry.COLUMN_STAMP                           + " INTEGER PRIMARY KEY NOT NULL,"  +
+                CompanyEntry.COLUMN_UID                             + " TEXT NOT NULL, "                +
+                CompanyEntry.COLUMN_EIN                             + " TEXT NOT NULL, "                +
+                CompanyEntry.COLUMN_IMPACT                          + " TEXT NOT NULL,"                 +
+                CompanyEntry.COLUMN_TYPE                            + " INTEGER NOT NULL,"              +
+                CompanyEntry.COLUMN_MEMO                            + " TEXT NOT NULL,"                 +
+                CompanyEntry.COLUMN_TIME                            + " INTEGER NOT NULL,"              +
+                CompanyEntry.COLUMN_MODIFIED                        + SQL_MODIFIED_DEFINITION + ","     +
+
+                "UNIQUE (" + CompanyEntry.COLUMN_STAMP +
+                ") ON CONFLICT REPLACE" + ");";
+    }
+
+    /**
+     * Moves company profiles out of the target and record tables into the company table, keeping for each
+     * user and EIN the profile of its most recently changed target or else its most recent record, then replaces the
+     * target and record tables with tables of their remaining columns and restores their indexes.
+     * @param db database with which to populate the company table.
+     */
+    private static void moveProfilesToCompanyTable(SQLiteDatabase db) {
+
+        db.execSQL(SQL_CREATE_COMPANY_TABLE);
+        String profileColumns = CompanyEntry.COLUMN_UID + ", " + CompanyEntry.COLUMN_EIN + ", " + TextUtils.join(", ", CompanyEntry.COLUMNS_PROFILE);
+        String insertProfiles = "INSERT OR REPLACE INTO " + CompanyEntry.TABLE_NAME_COMPANY + " (" + profileColumns + ") " +
+                "SELECT " + profileColumns + " FROM ";
+        db.execSQL(insertProfiles + CompanyEntry.TABLE_NAME_RECORD + " ORDER BY " + CompanyEntry.COLUMN_TIME + ";");
+        db.execSQL(insertProfiles + CompanyEntry.TABLE_NAME_TARGET + " ORDER BY " + CompanyEntry.COLUMN_MODIFIED + ";");
+
+        String rebuiltTarget = CompanyEntry.TABLE_NAME_TARGET + SUFFIX_REBUILT;
+        db.execSQL(createTargetTable(rebuiltTarget));
+        replaceTable(db, CompanyEntry.TABLE_NAME_TARGET, rebuiltTarget, COLUMNS_TARGET);
+
+        String rebuiltRecord = CompanyEntry.TABLE_NAME_RECORD + SUFFIX_REBUILT;
+        db.execSQL(createRecordTable(rebuiltRecord));
+        replaceTable(db, CompanyEntry.TABLE_NAME_RECORD, rebuiltRecord, COLUMNS_RECORD);
+
+        createIndexes(db);
+        createModifiedIndexes(db);
+    }
+
+    /**
+     * Copies the given columns of each row of a table into its replacement, then drops the table
+     * along with its indexes and renames the replacement in its place.
+     * @param db database holding both tables
+     * @param tableName name of the table to replace
+     * @param replacementName name of the table replacing it
+     * @param columns columns shared by both tables
+     */
+    private static void replaceTable(SQLiteDatabase db, String tableName, String replacementName, String[] columns) {
+
+        String columnList = TextUtils.join(", ", columns);
+        db.execSQL("INSERT INTO " + replacementName + " (" + columnList + ") SELECT " + columnList + " FROM " + tableName + ";");
+        db.execSQL("DROP TABLE " + tableName + ";");
+        db.execSQL("ALTER TABLE " + replacementName + " RENAME TO " + tableName + ";");
+    }
+
+    /**
+     * Builds and executes statements that index company tables by user and the columns
+     * by which their rows are filtered and sorted.
+     * @param db database with which to populate indexes.
+     */
+    private static void createIndexes(SQLiteDatabase db) {
+
+        db.execSQL(createIndex(INDEX_SPAWN_UID_EIN, CompanyEntry.TABLE_NAME_SPAWN, CompanyEntry.COLUMN_EIN));
+        db.execSQL(createIndex(INDEX_TARGET_UID_EIN, CompanyEntry.TABLE_NAME_TARGET, CompanyEntry.COLUMN_EIN));
+        db.execSQL(createIndex(INDEX_TARGET_UID_PERCENT, CompanyEntry.TABLE_NAME_TARGET, CompanyEntry.COLUMN_PERCENT));
+        db.execSQL(createIndex(INDEX_RECORD_UID_EIN, CompanyEntry.TABLE_NAME_RECORD, CompanyEntry.COLUMN_EIN));
+        db.execSQL(createIndex(INDEX_RECORD_UID_TIME, CompanyEntry.TABLE_NAME_RECORD, CompanyEntry.COLUMN_TIME));
+    }
+
+    /**
+     * Adds to company tables the time of most recent change to each entry, defaulting to 0 for
+     * existing entries, and indexes them for retrieving those changed since a given time.
+     * @param db database with which to populate columns.
+     */
+    private static void addModifiedColumns(SQLiteDatabase db) {
+
+        db.execSQL(addColumn(CompanyEntry.TABLE_NAME_SPAWN, CompanyEntry.COLUMN_MODIFIED, SQL_MODIFIED_DEFINITION));
+        db.execSQL(addColumn(CompanyEntry.TABLE_NAME_TARGET, CompanyEntry.COLUMN_MODIFIED, SQL_MODIFIED_DEFINITION));
+        db.execSQL(addColumn(CompanyEntry.TABLE_NAME_RECORD, CompanyEntry.COLUMN_MODIFIED, SQL_MODIFIED_DEFINITION));
+        createModifiedIndexes(db);
+    }
+
+    /**
+     * Builds and executes statements that index synchronized company tables by user and time of change.
+     * @param db database with which to populate indexes.
+     */
+    private static void createModifiedIndexes(SQLiteDatabase db) {
+
+        db.execSQL(createIndex(INDEX_TARGET_UID_MODIFIED, CompanyEntry.TABLE_NAME_TARGET, CompanyEntry.COLUMN_MODIFIED));
+        db.execSQL(createIndex(INDEX_RECORD_UID_MODIFIED, CompanyEntry.TABLE_NAME_RECORD, CompanyEntry.COLUMN_MODIFIED));
+    }
+
+    /**
+     * Builds a statement that adds a column with the given definition to the given table.
+     * @param tableName name of the table to alter
+     * @param columnName name of the column to add
+     * @param definition type and constraints of the column
+     * @return statement adding the column
+     */
+    private static String addColumn(String tableName, String columnName, String definition) {
+        return "ALTER TABLE " + tableName + " ADD COLUMN " + columnName + definition + ";";
+    }
+
+    /**
+     * Builds a statement that creates an index on the user and the given column of the given table.
+     * @param indexName name of the index to create
+     * @param tableName name of the table to index
+     * @param columnName column following user by which to index
+     * @return statement creating the index if it does not yet exist
+     */
+    private static String createIndex(String indexName, String tableName, String columnName) {
+        return "CREATE INDEX IF NOT EXISTS " + indexName + " ON " + tableName +
+                " (" + CompanyEntry.COLUMN_UID + ", " + columnName + ");";
     }
 }
@@ -2,15 +2,30 @@ package art.coded.givetrack.data;
 
 import android.annotation.TargetApi;
 import android.content.ContentProvider;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.OperationApplicationException;
 import android.content.UriMatcher;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 import android.net.Uri;
 
 import androidx.annotation.NonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import timber.log.Timber;
 
 import static art.coded.givetrack.data.DatabaseContract.*;
@@ -19,6 +34,8 @@ import static art.coded.givetrack.data.DatabaseContract.UserEntry.*;
 
 /**
  * Provides data in response to requests generated from {@link android.content.ContentResolver}.
+ * Targets and records are read joined with the company profiles they reference by user and EIN
+ * and written with their profiles moved into the company table.
  */
 public class DatabaseProvider extends ContentProvider {
 
@@ -26,12 +43,21 @@ public class DatabaseProvider extends ContentProvider {
     private static final int CODE_SPAWN = 101;
     private static final int CODE_RECORD = 102;
     private static final int CODE_USER = 103;
+    private static final int CODE_OUTBOX = 104;
     private static final int CODE_TARGET_WITH_ID = 200;
     private static final int CODE_SPAWN_WITH_ID = 201;
     private static final int CODE_RECORD_WITH_ID = 202;
     private static final int CODE_USER_WITH_ID = 203;
+    private static final int CODE_RECORD_AGGREGATE = 302;
     private static final UriMatcher sUriMatcher = buildUriMatcher();
 
+    // Removes profiles no longer referenced by any target or record
+    private static final String SQL_DELETE_UNREFERENCED_PROFILES =
+            "DELETE FROM " + TABLE_NAME_COMPANY + " WHERE " +
+                    "NOT " + referencedBy(TABLE_NAME_TARGET, null) + " AND NOT " + referencedBy(TABLE_NAME_RECORD, null);
+
+    private static final String SELECTION_PROFILE_KEY = COLUMN_UID + " = ? AND " + COLUMN_EIN + " = ? ";
+
     /**
      * Builds a {@link UriMatcher} for identifying distinct {@link Uri} and defining corresponding behaviors.
      * @return {@link UriMatcher}
@@ -45,6 +71,8 @@ public class DatabaseProvider extends ContentProvider {
         matcher.addURI(authority, PATH_TARGET_TABLE, CODE_TARGET);
         matcher.addURI(authority, PATH_RECORD_TABLE, CODE_RECORD);
         matcher.addURI(authority, PATH_USER_TABLE, CODE_USER);
+        matcher.addURI(authority, PATH_OUTBOX_TABLE, CODE_OUTBOX);
+        matcher.addURI(authority, PATH_RECORD_TABLE + "/" + PATH_AGGREGATE, CODE_RECORD_AGGREGATE); // precedes wildcard
         matcher.addURI(authority, PATH_SPAWN_TABLE + "/*", CODE_SPAWN_WITH_ID);
         matcher.addURI(authority, PATH_TARGET_TABLE + "/*", CODE_TARGET_WITH_ID);
         matcher.addURI(authority, PATH_RECORD_TABLE + "/*", CODE_RECORD_WITH_ID);
@@ -67,7 +95,9 @@ public class DatabaseProvider extends ContentProvider {
     }
 
     /**
-     * Inserts rows of data at a given {@link Uri}.
+     * Inserts rows of data at a given {@link Uri}, compiling one statement for each run of rows
+     * with the same columns and binding each row to it in turn. The company profiles of targets
+     * and records are written to the company table once for each user and EIN they reference.
      * @param uri       {@link Uri} at which to insert data.
      * @param values    An array of sets of column_name/value pairs to add to the database;
      *                  cannot be {@code null}.
@@ -83,23 +113,201 @@ public class DatabaseProvider extends ContentProvider {
             case CODE_TARGET: tableName = TABLE_NAME_TARGET; break;
             case CODE_RECORD: tableName = TABLE_NAME_RECORD; break;
             case CODE_USER: tableName = TABLE_NAME_USER; break;
+            case CODE_OUTBOX: tableName = OutboxEntry.TABLE_NAME_OUTBOX; break;
             default: throw new UnsupportedOperationException("Unknown uri: " + uri);
         }
 
-        int rowsInserted = 0;
+        // Profiles are written once for each user and EIN however many of the rows reference it
+        ContentValues[] rows = values;
+        Map<List<String>, ContentValues> profiles = null;
+        if (referencesProfile(tableName)) {
+            rows = new ContentValues[values.length];
+            profiles = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) continue;
+                rows[i] = new ContentValues(values[i]);
+                ContentValues profile = extractProfile(rows[i]);
+                if (profile != null) profiles.put(Arrays.asList(
+                        profile.getAsString(COLUMN_UID), profile.getAsString(COLUMN_EIN)), profile);
+            }
+        }
+
+        int rowsInserted;
         db.beginTransaction();
         try {
-            for (ContentValues value : values) {
-                long _id = db.insertWithOnConflict(tableName, null, value, SQLiteDatabase.CONFLICT_REPLACE);
-                if (_id != -1) rowsInserted++;
-            }
+            if (profiles != null) for (ContentValues profile : profiles.values()) upsertProfile(db, tableName, profile);
+            rowsInserted = insertRows(db, tableName, rows);
             db.setTransactionSuccessful();
         } finally { db.endTransaction(); }
 
+        if (tableName.equals(TABLE_NAME_USER)) DatabaseAccessor.invalidateActiveUser();
+        if (tableName.equals(OutboxEntry.TABLE_NAME_OUTBOX)) scheduleOutbox(db);
 //       notifyDataSetChange(uri, rowsInserted);
         return rowsInserted;
     }
 
+    /**
+     * Inserts rows into the given table within the open transaction, compiling one statement
+     * for each run of rows with the same columns; rows failing to insert are skipped.
+     * @return number of rows inserted
+     */
+    private static int insertRows(SQLiteDatabase db, String tableName, ContentValues[] values) {
+
+        int rowsInserted = 0;
+        SQLiteStatement statement = null;
+        String[] columns = null;
+        try {
+            for (ContentValues value : values) {
+                if (value == null || value.size() == 0) continue;
+                if (columns == null || !hasColumns(value, columns)) {
+                    if (statement != null) { statement.close(); statement = null; }
+                    columns = value.keySet().toArray(new String[0]);
+                    statement = db.compileStatement(buildReplaceStatement(tableName, columns));
+                }
+                for (int i = 0; i < columns.length; i++) DatabaseUtils.bindObjectToProgram(statement, i + 1, value.get(columns[i]));
+                try { if (statement.executeInsert() != -1) rowsInserted++; }
+                catch (SQLException e) { Timber.e(e, "Error inserting into %s", tableName); } // skipped as by insertWithOnConflict
+            }
+        } finally { if (statement != null) statement.close(); }
+        return rowsInserted;
+    }
+
+    /**
+     * Builds a statement inserting a row of the given columns, replacing any row it conflicts with.
+     */
+    private static String buildReplaceStatement(String tableName, String[] columns) {
+        StringBuilder statement = new StringBuilder("INSERT OR REPLACE INTO ").append(tableName).append(" (");
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) { statement.append(", "); placeholders.append(", "); }
+            statement.append(columns[i]);
+            placeholders.append('?');
+        } return statement.append(") VALUES (").append(placeholders).append(')').toString();
+    }
+
+    /**
+     * Determines whether the values hold exactly the given columns.
+     */
+    private static boolean hasColumns(ContentValues values, String[] columns) {
+        if (values.size() != columns.length) return false;
+        for (String column : columns) if (!values.containsKey(column)) return false;
+        return true;
+    }
+
+    /**
+     * Determines whether rows of the given table reference company profiles by EIN.
+     */
+    private static boolean referencesProfile(String tableName) {
+        return TABLE_NAME_TARGET.equals(tableName) || TABLE_NAME_RECORD.equals(tableName);
+    }
+
+    /**
+     * Determines whether the given projection reads any column of the company profile.
+     */
+    private static boolean includesProfile(String[] projection) {
+        if (projection == null) return true;
+        for (String column : projection) if (Arrays.asList(COLUMNS_PROFILE).contains(column)) return true;
+        return false;
+    }
+
+    /**
+     * Builds the join of the given table with the company profile each of its rows references,
+     * keeping rows whose profile is absent.
+     */
+    private static String joinProfile(String tableName) {
+        return tableName + " LEFT JOIN " + TABLE_NAME_COMPANY + " USING (" + COLUMN_UID + ", " + COLUMN_EIN + ")";
+    }
+
+    /**
+     * Builds an expression matching company profiles referenced by rows of the given table,
+     * limited to the rows matching the given selection if not null.
+     */
+    private static String referencedBy(String tableName, String selection) {
+        return "EXISTS (SELECT 1 FROM " + tableName + " WHERE " +
+                tableName + "." + COLUMN_UID + " = " + TABLE_NAME_COMPANY + "." + COLUMN_UID + " AND " +
+                tableName + "." + COLUMN_EIN + " = " + TABLE_NAME_COMPANY + "." + COLUMN_EIN +
+                (selection != null ? " AND (" + selection + ")" : "") + ")";
+    }
+
+    /**
+     * Moves the columns of the company profile out of the given values of a target or record
+     * into values of the company table keyed by the user and EIN of the entry, where the values hold them.
+     * @return values of the company table, or null if the values hold no profile
+     */
+    private static ContentValues extractProfile(ContentValues values) {
+        ContentValues profile = null;
+        for (String column : COLUMNS_PROFILE) {
+            if (!values.containsKey(column)) continue;
+            if (profile == null) profile = new ContentValues();
+            profile.put(column, values.getAsString(column));
+            values.remove(column);
+        }
+        if (profile == null) return null;
+        if (values.containsKey(COLUMN_UID)) profile.put(COLUMN_UID, values.getAsString(COLUMN_UID));
+        if (values.containsKey(COLUMN_EIN)) profile.put(COLUMN_EIN, values.getAsString(COLUMN_EIN));
+        return profile;
+    }
+
+    /**
+     * Writes the columns held by the given profile to the profile of its user and EIN within the open
+     * transaction, inserting the profile if absent. Profiles written with records leave unchanged those
+     * referenced by targets, as records keep the profile last written when they were recorded.
+     * @param tableName table of the entry from which the profile was extracted
+     * @throws SQLException if the profile lacks its user or EIN or cannot be inserted,
+     *                      so that the entry is not written without it
+     */
+    private static void upsertProfile(SQLiteDatabase db, String tableName, ContentValues profile) {
+
+        String uid = profile.getAsString(COLUMN_UID);
+        String ein = profile.getAsString(COLUMN_EIN);
+        if (uid == null || ein == null) throw new SQLException("Profile lacks user or EIN");
+        String[] keyArgs = { uid, ein };
+
+        if (DatabaseUtils.queryNumEntries(db, TABLE_NAME_COMPANY, SELECTION_PROFILE_KEY, keyArgs) == 0) {
+            db.insertOrThrow(TABLE_NAME_COMPANY, null, profile);
+            return;
+        }
+        if (TABLE_NAME_RECORD.equals(tableName)
+                && DatabaseUtils.queryNumEntries(db, TABLE_NAME_TARGET, SELECTION_PROFILE_KEY, keyArgs) > 0) return;
+
+        ContentValues columns = new ContentValues(profile);
+        columns.remove(COLUMN_UID);
+        columns.remove(COLUMN_EIN);
+        db.update(TABLE_NAME_COMPANY, columns, SELECTION_PROFILE_KEY, keyArgs);
+    }
+
+    /**
+     * Applies a batch of operations within a single transaction so that either all or none
+     * of them take effect, then notifies observers of the change once.
+     * @param operations {@link ContentProviderOperation}s to apply in order
+     * @return           results of each applied operation
+     * @throws OperationApplicationException if any operation fails; no changes are kept
+     */
+    @Override public @NonNull ContentProviderResult[] applyBatch(@NonNull ArrayList<ContentProviderOperation> operations)
+            throws OperationApplicationException {
+
+        final SQLiteDatabase db = mOpenHelper.getWritableDatabase();
+
+        ContentProviderResult[] results;
+        db.beginTransaction();
+        try {
+            results = super.applyBatch(operations); // nests the transaction of each operation
+            db.setTransactionSuccessful();
+        } finally { db.endTransaction(); }
+
+        Set<String> tablePaths = new LinkedHashSet<>();
+        for (ContentProviderOperation operation : operations) tablePaths.add(operation.getUri().getPathSegments().get(0));
+
+        // Outbox rows are delivered once the batch is committed rather than observed
+        if (tablePaths.remove(PATH_OUTBOX_TABLE)) scheduleOutbox(db);
+
+        // Notifying the base Uri reaches observers of every table beneath it
+        Uri changedUri = BASE_URI;
+        if (tablePaths.size() == 1) changedUri = BASE_URI.buildUpon().appendPath(tablePaths.iterator().next()).build();
+        if (!tablePaths.isEmpty()) notifyDataSetChange(changedUri);
+        return results;
+    }
+
     /**
      * Inserts a single row of data at a given {@link Uri}.
      * @param uri    {@link Uri} at which to insert data.
@@ -116,17 +324,27 @@ public class DatabaseProvider extends ContentProvider {
             case CODE_TARGET: tableName = TABLE_NAME_TARGET; break;
             case CODE_RECORD: tableName = TABLE_NAME_RECORD; break;
             case CODE_USER: tableName = TABLE_NAME_USER; break;
+            case CODE_OUTBOX: tableName = OutboxEntry.TABLE_NAME_OUTBOX; break;
             default: throw new UnsupportedOperationException("Unknown uri: " + uri);
         }
 
+        ContentValues profile = null;
+        if (referencesProfile(tableName)) {
+            values = new ContentValues(values);
+            profile = extractProfile(values);
+        }
+
         int rowsInserted = 0;
         db.beginTransaction();
         try {
+            if (profile != null) upsertProfile(db, tableName, profile);
             long _id = db.insertWithOnConflict(tableName, null, values, SQLiteDatabase.CONFLICT_REPLACE);
             if (_id != -1) rowsInserted++;
             db.setTransactionSuccessful();
         } finally { db.endTransaction(); }
 
+        if (tableName.equals(TABLE_NAME_USER)) DatabaseAccessor.invalidateActiveUser();
+        if (tableName.equals(OutboxEntry.TABLE_NAME_OUTBOX)) scheduleOutbox(db);
 //       notifyDataSetChange(uri, rowsInserted);
         return uri;
     }
@@ -181,20 +399,39 @@ public class DatabaseProvider extends ContentProvider {
             default: throw new UnsupportedOperationException("Unknown uri: " + uri);
         }
 
+        // Profile columns update the profiles referenced by the selected rows rather than their keys;
+        // as on insertion, records leave unchanged the profiles referenced by targets
+        ContentValues profile = null;
+        String profileSelection = null;
+        if (referencesProfile(tableName)) {
+            values = new ContentValues(values);
+            profile = extractProfile(values);
+            if (profile != null) {
+                profile.remove(COLUMN_UID);
+                profile.remove(COLUMN_EIN);
+                profileSelection = referencedBy(tableName, selection);
+                if (TABLE_NAME_RECORD.equals(tableName)) profileSelection += " AND NOT " + referencedBy(TABLE_NAME_TARGET, null);
+            }
+        }
+
+        // Counts only rows of the table at the Uri, including those selected for their profiles alone
         int rowsUpdated;
         db.beginTransaction();
         try {
-            rowsUpdated = db.update(tableName, values, selection, selectionArgs);
+            if (profile != null) db.update(TABLE_NAME_COMPANY, profile, profileSelection, selectionArgs);
+            rowsUpdated = values.size() > 0 ? db.update(tableName, values, selection, selectionArgs)
+                    : (int) DatabaseUtils.queryNumEntries(db, tableName, selection, selectionArgs);
             db.setTransactionSuccessful();
         } finally { db.endTransaction(); }
 
+        if (tableName.equals(TABLE_NAME_USER)) DatabaseAccessor.invalidateActiveUser();
 //        notifyDataSetChange(uri, rowsUpdated);
         return rowsUpdated;
     }
 
     /**
      * Handles from clients their query requests with and without ID.
-     * @param uri           {@link Uri} at which to query data
+     * @param uri           {@link Uri} at which to query data, with optional {@link DatabaseContract#PARAM_LIMIT}
      * @param projection    list of columns to put into the cursor, or all columns if null is given
      * @param selection     Optional statement defining criteria parameters
      * @param selectionArgs Optional criteria values
@@ -214,6 +451,7 @@ public class DatabaseProvider extends ContentProvider {
             case CODE_SPAWN: tableName = TABLE_NAME_SPAWN; break;
             case CODE_RECORD: tableName = TABLE_NAME_RECORD; break;
             case CODE_USER: tableName = TABLE_NAME_USER; break;
+            case CODE_OUTBOX: tableName = OutboxEntry.TABLE_NAME_OUTBOX; break;
 
             case CODE_TARGET_WITH_ID:
                 selection = COLUMN_STAMP + " = ? ";
@@ -239,12 +477,19 @@ public class DatabaseProvider extends ContentProvider {
                 tableName = TABLE_NAME_USER;
                 break;
 
+            case CODE_RECORD_AGGREGATE:
+                tableName = null;
+                break;
+
             default: throw new UnsupportedOperationException("Unknown uri: " + uri);
         }
 
         Cursor cursor;
-        cursor = db.query(
-                tableName, projection, selection, selectionArgs, null, null, sortOrder);
+        if (tableName == null) cursor = db.rawQuery(buildRecordAggregateQuery(uri, selection), selectionArgs);
+        else {
+            if (referencesProfile(tableName) && includesProfile(projection)) tableName = joinProfile(tableName);
+            cursor = db.query(tableName, projection, selection, selectionArgs, null, null, sortOrder, uri.getQueryParameter(PARAM_LIMIT));
+        }
 
         Context context = getContext();
         if (context != null) cursor.setNotificationUri(context.getContentResolver(), uri);
@@ -252,6 +497,80 @@ public class DatabaseProvider extends ContentProvider {
         return cursor;
     }
 
+    /**
+     * Builds a statement totaling records by time interval and by name, with the intervals
+     * counted back from the current one in local time according to the parameters of the {@link Uri}.
+     * @param uri       {@link Uri} with {@link AggregateEntry} query parameters
+     * @param selection Optional statement defining criteria parameters of the records to total
+     * @return          statement returning rows of {@link AggregateEntry} columns
+     */
+    private static String buildRecordAggregateQuery(Uri uri, String selection) {
+
+        int interval = parseParameter(uri, AggregateEntry.PARAM_INTERVAL, Calendar.YEAR);
+        String graphMatch = typeMatch(parseParameter(uri, AggregateEntry.PARAM_GRAPH_TYPE, 0));
+        String homeMatch = typeMatch(parseParameter(uri, AggregateEntry.PARAM_HOME_TYPE, 0));
+        long since = parseParameter(uri, AggregateEntry.PARAM_SINCE, 0L);
+        if (selection == null) selection = "1";
+
+        String recordTime = COLUMN_TIME + " / 1000, 'unixepoch'";
+        String years = "(" + datePart("%Y", "'now'") + " - " + datePart("%Y", recordTime) + ")";
+        String bucket;
+        switch (interval) {
+            case Calendar.MONTH: bucket = years + " * 12 + " + datePart("%m", "'now'") + " - " + datePart("%m", recordTime); break;
+            case Calendar.WEEK_OF_YEAR: bucket = years + " * 52 + " + datePart("%W", "'now'") + " - " + datePart("%W", recordTime); break;
+            default: bucket = years;
+        }
+
+        return "WITH bucketed AS (SELECT " + bucket + " AS " + AggregateEntry.COLUMN_BUCKET + ", " +
+                        COLUMN_NAME + ", " + COLUMN_TYPE + ", " + COLUMN_TIME + ", " +
+                        "CAST(" + COLUMN_IMPACT + " AS REAL) AS " + COLUMN_IMPACT +
+                        " FROM " + joinProfile(TABLE_NAME_RECORD) + " WHERE " + selection + ") " +
+
+                "SELECT " + AggregateEntry.COLUMN_BUCKET + ", NULL AS " + AggregateEntry.COLUMN_NAME + ", " +
+                        "SUM(CASE WHEN " + graphMatch + " THEN " + COLUMN_IMPACT + " ELSE 0 END) AS " + AggregateEntry.COLUMN_TOTAL + ", " +
+                        "SUM(" + graphMatch + ") AS " + AggregateEntry.COLUMN_COUNT + ", " +
+                        "SUM(CASE WHEN " + homeMatch + " THEN " + COLUMN_IMPACT + " ELSE 0 END) AS " + AggregateEntry.COLUMN_HOME_TOTAL + ", " +
+                        "SUM(CASE WHEN " + homeMatch + " AND " + COLUMN_TIME + " >= " + since + " THEN " + COLUMN_IMPACT + " ELSE 0 END) AS " + AggregateEntry.COLUMN_TRACKED + ", " +
+                        "COUNT(*) AS " + AggregateEntry.COLUMN_FREQUENCY +
+                        " FROM bucketed GROUP BY " + AggregateEntry.COLUMN_BUCKET +
+
+                " UNION ALL " +
+
+                "SELECT NULL, " + COLUMN_NAME + ", SUM(" + COLUMN_IMPACT + "), COUNT(*), 0, 0, 0" +
+                        " FROM bucketed WHERE " + graphMatch + " AND " + AggregateEntry.COLUMN_BUCKET + " < 7" +
+                        " GROUP BY " + COLUMN_NAME;
+    }
+
+    /**
+     * Builds an expression extracting a local date part as an integer.
+     */
+    private static String datePart(String format, String time) {
+        return "CAST(strftime('" + format + "', " + time + ", 'localtime') AS INTEGER)";
+    }
+
+    /**
+     * Builds an expression matching records of the given type; 0 matches all types.
+     */
+    private static String typeMatch(int type) {
+        return type == 0 ? "1" : "(" + COLUMN_TYPE + " = " + (type - 1) + ")";
+    }
+
+    /**
+     * Retrieves a numeric query parameter of the given {@link Uri} or the default if absent.
+     */
+    private static int parseParameter(Uri uri, String key, int defaultValue) {
+        String value = uri.getQueryParameter(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Retrieves a numeric query parameter of the given {@link Uri} or the default if absent.
+     */
+    private static long parseParameter(Uri uri, String key, long defaultValue) {
+        String value = uri.getQueryParameter(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
     /**
      * Deletes data at a given URI with optional arguments for more fine-tuned deletions.
      * @param uri           {@link Uri} at which to delete data.
@@ -272,6 +591,7 @@ public class DatabaseProvider extends ContentProvider {
             case CODE_SPAWN: tableName = TABLE_NAME_SPAWN; break;
             case CODE_RECORD: tableName = TABLE_NAME_RECORD; break;
             case CODE_USER: tableName = TABLE_NAME_USER; break;
+            case CODE_OUTBOX: tableName = OutboxEntry.TABLE_NAME_OUTBOX; break;
 
             case CODE_TARGET_WITH_ID:
                 selection = COLUMN_STAMP + " = ? ";
@@ -301,9 +621,11 @@ public class DatabaseProvider extends ContentProvider {
         db.beginTransaction();
         try {
             rowsDeleted = db.delete(tableName, selection, selectionArgs);
+            if (rowsDeleted > 0 && referencesProfile(tableName)) db.execSQL(SQL_DELETE_UNREFERENCED_PROFILES);
             db.setTransactionSuccessful();
         } finally { db.endTransaction(); }
 
+        if (tableName.equals(TABLE_NAME_USER)) DatabaseAccessor.invalidateActiveUser();
 //       notifyDataSetChange(uri, rowsDeleted);
         return rowsDeleted;
     }
@@ -333,6 +655,24 @@ public class DatabaseProvider extends ContentProvider {
         super.shutdown();
     }
 
+    /**
+     * Schedules {@link OutboxWorker} to deliver queued remote updates once no transaction
+     * remains open, deferring to the enclosing batch otherwise.
+     */
+    private void scheduleOutbox(SQLiteDatabase db) {
+        Context context = getContext();
+        if (context != null && !db.inTransaction()) OutboxWorker.schedule(context);
+    }
+
+    /**
+     * Notifies {@link android.content.ContentResolver} of changes at {@link Uri} and its descendants;
+     * initiates data reload with {@link androidx.loader.app.LoaderManager.LoaderCallbacks}.
+     */
+    private void notifyDataSetChange(Uri uri) {
+        Context context = getContext();
+        if (context != null) context.getContentResolver().notifyChange(uri, null);
+    }
+
 //    /**
 //     * Notifies {@link android.content.ContentResolver} of changes at {@link Uri};
 //     * initiates data reload with {@link androidx.loader.app.LoaderManager.LoaderCallbacks}.
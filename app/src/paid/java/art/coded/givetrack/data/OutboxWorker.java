@@ -0,0 +1,144 @@
+package art.coded.givetrack.data;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.OperationApplicationException;
+import android.database.Cursor;
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.database.DatabaseException;
+import com.google.firebase.database.FirebaseDatabase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import art.coded.givetrack.data.DatabaseContract.*;
+import timber.log.Timber;
+
+/**
+ * Delivers remote updates queued in the outbox table, merging consecutive updates into
+ * batches committed to the remote database in single round trips.
+ */
+public final class OutboxWorker extends Worker {
+
+    private static final String WORK_NAME = "outbox";
+    private static final int MAX_BATCH_PATHS = 1000; // Locations merged into a single remote update
+    private static final long DELIVERY_TIMEOUT_SECONDS = 30;
+    private static final long BACKOFF_DELAY_SECONDS = 15;
+
+    public OutboxWorker(@NonNull Context context, @NonNull WorkerParameters parameters) {
+        super(context, parameters);
+    }
+
+    /**
+     * Enqueues delivery of the outbox once a network connection is available, leaving in place
+     * any delivery already enqueued or running as it drains the outbox until empty.
+     * @param context provides access to {@link WorkManager}
+     */
+    static void schedule(@NonNull Context context) {
+
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .build();
+
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(OutboxWorker.class)
+                .setConstraints(constraints)
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY_SECONDS, TimeUnit.SECONDS)
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(WORK_NAME, ExistingWorkPolicy.KEEP, request);
+    }
+
+    /**
+     * Delivers batches in order of queueing and removes them from the outbox once acknowledged.
+     * Where the remote rejects a batch merged from several updates, those updates are delivered again
+     * one at a time so that only the updates the remote rejects are discarded.
+     * @return success once the outbox is empty; retry with backoff where delivery is not acknowledged in time
+     */
+    @NonNull @Override public Result doWork() {
+
+        ContentResolver local = getApplicationContext().getContentResolver();
+        FirebaseDatabase remote = FirebaseDatabase.getInstance();
+
+        long isolatedThrough = -1; // Last update of a rejected batch, through which updates are delivered alone
+
+        while (!isStopped()) {
+
+            Map<String, Object> batch = new HashMap<>();
+            List<String> ids = new ArrayList<>();
+
+            Cursor cursor = local.query(OutboxEntry.CONTENT_URI_OUTBOX, null, null, null, OutboxEntry._ID);
+            if (cursor == null) return Result.retry();
+            int idIndex = cursor.getColumnIndexOrThrow(OutboxEntry._ID);
+            int changesIndex = cursor.getColumnIndexOrThrow(OutboxEntry.COLUMN_CHANGES);
+            while (cursor.moveToNext()) {
+                if (!ids.isEmpty() && Long.parseLong(ids.get(0)) <= isolatedThrough) break;
+                Map<String, Object> update = DataUtilities.outboxChangesToMap(cursor.getString(changesIndex));
+                if (!ids.isEmpty() && batch.size() + update.size() > MAX_BATCH_PATHS) break;
+                if (!mergeUpdate(batch, update)) break; // delivered in the next batch after its predecessors
+                ids.add(cursor.getString(idIndex));
+            } cursor.close();
+
+            if (ids.isEmpty()) return Result.success();
+
+            try { Tasks.await(remote.getReference().updateChildren(batch), DELIVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS); }
+            catch (InterruptedException|TimeoutException e) { return Result.retry(); }
+            catch (ExecutionException e) {
+                if (!(e.getCause() instanceof DatabaseException)) return Result.retry();
+                if (ids.size() > 1) { // redelivered alone to discard only the updates rejected
+                    isolatedThrough = Long.parseLong(ids.get(ids.size() - 1));
+                    continue;
+                }
+                Timber.e(e.getCause()); // rejected by the remote so discarded rather than retried
+            }
+
+            try { local.applyBatch(DatabaseContract.AUTHORITY, DatabaseAccessor.buildDeletions(OutboxEntry.CONTENT_URI_OUTBOX, OutboxEntry._ID, ids)); }
+            catch (RemoteException|OperationApplicationException e) { Timber.e(e); return Result.retry(); }
+        }
+        return Result.retry();
+    }
+
+    /**
+     * Merges a later update into a batch so that the batch has the effect of applying both in order.
+     * Locations within those the later update writes are superseded and dropped from the batch;
+     * the update is not merged where it writes within a location the batch already writes,
+     * as a single update cannot hold both a location and its descendants.
+     * @param batch locations and values of updates queued earlier
+     * @param update locations and values of the later update
+     * @return true if merged; false if the update must follow the batch in a separate round trip
+     */
+    static boolean mergeUpdate(Map<String, Object> batch, Map<String, Object> update) {
+
+        for (String path : update.keySet()) {
+            for (String batchPath : batch.keySet()) if (isDescendant(path, batchPath)) return false;
+        }
+
+        for (String path : update.keySet()) {
+            Iterator<String> iterator = batch.keySet().iterator();
+            while (iterator.hasNext()) if (isDescendant(iterator.next(), path)) iterator.remove();
+        }
+        batch.putAll(update);
+        return true;
+    }
+
+    private static boolean isDescendant(String path, String ancestorPath) {
+        return path.length() > ancestorPath.length() && path.charAt(ancestorPath.length()) == '/' && path.startsWith(ancestorPath);
+    }
+}
@@ -0,0 +1,120 @@
+package art.coded.givetrack.data;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+
+import java.util.List;
+
+import art.coded.givetrack.AppExecutors;
+import art.coded.givetrack.AppUtilities;
+import art.coded.givetrack.data.entry.Record;
+import art.coded.givetrack.data.entry.User;
+
+import static art.coded.givetrack.data.DatabaseContract.CompanyEntry.*;
+
+/**
+ * Loads the records of a user in pages ordered by the record sort of the user, with ties broken by stamp.
+ * Each page continues from the sort value and stamp of the last record loaded, so that it reads on
+ * from a position in the index rather than stepping over the preceding rows by offset.
+ */
+public final class RecordPager {
+
+    public static final int PAGE_SIZE = 50;
+    public static final int PREFETCH_DISTANCE = 15; // Records remaining past the last visible at which to load the next page
+
+    /**
+     * Receives on the main thread each page of records loaded.
+     */
+    public interface Callback { void onPageLoaded(Record[] page); }
+
+    private final String mUid;
+    private final String mColumn;
+    private final String mSort; // Expression ordering values of the sort column as they compare
+    private final String mOrder;
+    private int mGeneration; // Advanced on reset to discard pages still loading
+    private boolean mLoading;
+    private boolean mExhausted;
+
+    public RecordPager(User user) {
+        mUid = user.getUid();
+        String sort = user.getRecordSort();
+        if (COLUMN_IMPACT.equals(sort)) {
+            mColumn = COLUMN_IMPACT;
+            mSort = "CAST(" + COLUMN_IMPACT + " AS REAL)"; // Stored as text
+        } else if (COLUMN_NAME.equals(sort)) {
+            mColumn = mSort = COLUMN_NAME;
+        } else mColumn = mSort = COLUMN_TIME;
+        mOrder = "ASC".equalsIgnoreCase(user.getRecordOrder()) ? "ASC" : "DESC";
+    }
+
+    /**
+     * Builds the {@link Uri} of the first records of the user up to the given count, or a page if fewer.
+     */
+    public Uri getUri(int count) {
+        return CONTENT_URI_RECORD.buildUpon()
+                .appendQueryParameter(DatabaseContract.PARAM_LIMIT, String.valueOf(Math.max(count, PAGE_SIZE)))
+                .build();
+    }
+
+    public String getSelection() { return COLUMN_UID + " = ? "; }
+
+    public String[] getSelectionArgs() { return new String[] { mUid }; }
+
+    public String getSortOrder() { return mSort + " " + mOrder + ", " + COLUMN_STAMP + " " + mOrder; }
+
+    /**
+     * Discards any page still loading and allows loading to resume, as when the first records are reloaded.
+     */
+    public void reset() {
+        mGeneration++;
+        mLoading = false;
+        mExhausted = false;
+    }
+
+    /**
+     * Loads on a worker thread the page of records following the given record and delivers it
+     * to the callback on the main thread, unless a page is already loading or none remain.
+     * @param context {@link Context} from which to resolve the records
+     * @param last    last record loaded, after which to continue in sort order
+     * @param callback {@link Callback} receiving the page
+     */
+    public void loadAfter(Context context, Record last, Callback callback) {
+        if (mLoading || mExhausted || last == null) return;
+        mLoading = true;
+
+        int generation = mGeneration;
+        ContentResolver local = context.getApplicationContext().getContentResolver();
+        String operator = "ASC".equals(mOrder) ? ">" : "<";
+        String selection = getSelection() +
+                "AND " + mSort + " " + operator + "= ? " +
+                "AND (" + mSort + " " + operator + " ? OR " + COLUMN_STAMP + " " + operator + " ?) ";
+        String value = getSortValue(last);
+        String[] selectionArgs = { mUid, value, value, String.valueOf(last.getStamp()) };
+
+        AppExecutors executors = AppExecutors.getInstance();
+        executors.getDiskIO().execute(() -> {
+            Cursor cursor = local.query(getUri(PAGE_SIZE), null, selection, selectionArgs, getSortOrder());
+            List<Record> page = AppUtilities.getEntryListFromCursor(cursor, Record.class);
+            if (cursor != null) cursor.close();
+            executors.getMainThread().execute(() -> {
+                if (generation != mGeneration) return;
+                mLoading = false;
+                mExhausted = page.size() < PAGE_SIZE;
+                callback.onPageLoaded(page.toArray(new Record[0]));
+            });
+        });
+    }
+
+    /**
+     * Retrieves the value of the sort column of the given record as bound to the selection.
+     */
+    private String getSortValue(Record record) {
+        switch (mColumn) {
+            case COLUMN_IMPACT: return String.valueOf(record.getImpact());
+            case COLUMN_NAME: return record.getName();
+            default: return String.valueOf(record.getTime());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package art.coded.givetrack.data.entry;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import art.coded.givetrack.data.DatabaseContract.CompanyEntry;
+import art.coded.givetrack.data.DatabaseContract.UserEntry;
+
+/**
+ * Maps rows of a {@link Cursor} to entries, resolving the index of each column once per cursor
+ * and reading typed values directly rather than by way of {@link android.content.ContentValues}.
+ * Columns absent from the cursor leave the corresponding fields of the entry unchanged.
+ */
+public abstract class CursorMapper<T extends Entry> {
+
+    private CursorMapper() {}
+
+    /**
+     * Resolves column indexes of the cursor for mapping its rows to entries of the given type.
+     * @param type class of {@link Spawn}, {@link Target}, {@link Record} or {@link User}
+     * @param cursor {@link Cursor} whose rows are to be mapped
+     * @return {@link CursorMapper} for entries of the given type
+     */
+    @SuppressWarnings("unchecked") public static <T extends Entry> CursorMapper<T> of(Class<T> type, Cursor cursor) {
+        if (type == Target.class) return (CursorMapper<T>) new TargetMapper(cursor);
+        if (type == Record.class) return (CursorMapper<T>) new RecordMapper(cursor);
+        if (type == Spawn.class) return (CursorMapper<T>) new SpawnMapper<>(cursor);
+        if (type == User.class) return (CursorMapper<T>) new UserMapper(cursor);
+        throw new IllegalArgumentException("Unknown entry type: " + type);
+    }
+
+    /**
+     * Creates an entry from the current row of the cursor.
+     */
+    public T map(Cursor cursor) {
+        T entry = create();
+        read(cursor, entry);
+        return entry;
+    }
+
+    /**
+     * Creates an entry from each row of the cursor, starting from the first.
+     */
+    public List<T> mapAll(Cursor cursor) {
+        List<T> entries = new ArrayList<>(cursor.getCount());
+        if (!cursor.moveToFirst()) return entries;
+        do entries.add(map(cursor)); while (cursor.moveToNext());
+        return entries;
+    }
+
+    /**
+     * Writes the current row of the cursor to the fields of the given entry.
+     */
+    public abstract void read(Cursor cursor, T entry);
+
+    abstract T create();
+
+    private static String getString(Cursor cursor, int index, String defaultValue) {
+        return index < 0 ? defaultValue : cursor.getString(index);
+    }
+
+    private static long getLong(Cursor cursor, int index, long defaultValue) {
+        return index < 0 ? defaultValue : cursor.getLong(index);
+    }
+
+    private static int getInt(Cursor cursor, int index, int defaultValue) {
+        return index < 0 ? defaultValue : cursor.getInt(index);
+    }
+
+    // Reads text columns holding formatted numbers as SQLite converts them
+    private static double getDouble(Cursor cursor, int index, double defaultValue) {
+        return index < 0 ? defaultValue : cursor.getDouble(index);
+    }
+
+    private static boolean getBoolean(Cursor cursor, int index, boolean defaultValue) {
+        return index < 0 ? defaultValue : cursor.getInt(index) != 0;
+    }
+
+    private static class SpawnMapper<S extends Spawn> extends CursorMapper<S> {
+
+        private final int mUid, mEin, mStamp, mName, mLocationStreet, mLocationDetail, mLocationCity,
+                mLocationState, mLocationZip, mHomepageUrl, mNavigatorUrl, mPhone, mEmail, mSocial,
+                mImpact, mType, mModified;
+
+        SpawnMapper(Cursor cursor) {
+            mUid = cursor.getColumnIndex(CompanyEntry.COLUMN_UID);
+            mEin = cursor.getColumnIndex(CompanyEntry.COLUMN_EIN);
+            mStamp = cursor.getColumnIndex(CompanyEntry.COLUMN_STAMP);
+            mName = cursor.getColumnIndex(CompanyEntry.COLUMN_NAME);
+            mLocationStreet = cursor.getColumnIndex(CompanyEntry.COLUMN_LOCATION_STREET);
+            mLocationDetail = cursor.getColumnIndex(CompanyEntry.COLUMN_LOCATION_DETAIL);
+            mLocationCity = cursor.getColumnIndex(CompanyEntry.COLUMN_LOCATION_CITY);
+            mLocationState = cursor.getColumnIndex(CompanyEntry.COLUMN_LOCATION_STATE);
+            mLocationZip = cursor.getColumnIndex(CompanyEntry.COLUMN_LOCATION_ZIP);
+            mHomepageUrl = cursor.getColumnIndex(CompanyEntry.COLUMN_HOMEPAGE_URL);
+            mNavigatorUrl = cursor.getColumnIndex(CompanyEntry.COLUMN_NAVIGATOR_URL);
+            mPhone = cursor.getColumnIndex(CompanyEntry.COLUMN_PHONE);
+            mEmail = cursor.getColumnIndex(CompanyEntry.COLUMN_EMAIL);
+            mSocial = cursor.getColumnIndex(CompanyEntry.COLUMN_SOCIAL);
+            mImpact = cursor.getColumnIndex(CompanyEntry.COLUMN_IMPACT);
+            mType = cursor.getColumnIndex(CompanyEntry.COLUMN_TYPE);
+            mModified = cursor.getColumnIndex(CompanyEntry.COLUMN_MODIFIED);
+        }
+
+        @SuppressWarnings("unchecked") @Override S create() { return (S) new Spawn(); }
+
+        @Override public void read(Cursor cursor, S entry) {
+            entry.setUid(getString(cursor, mUid, entry.getUid()));
+            entry.setEin(getString(cursor, mEin, entry.getEin()));
+            entry.setStamp(getLong(cursor, mStamp, entry.getStamp()));
+            entry.setName(getString(cursor, mName, entry.getName()));
+            entry.setLocationStreet(getString(cursor, mLocationStreet, entry.getLocationStreet()));
+            entry.setLocationDetail(getString(cursor, mLocationDetail, entry.getLocationDetail()));
+            entry.setLocationCity(getString(cursor, mLocationCity, entry.getLocationCity()));
+            entry.setLocationState(getString(cursor, mLocationState, entry.getLocationState()));
+            entry.setLocationZip(getString(cursor, mLocationZip, entry.getLocationZip()));
+            entry.setHomepageUrl(getString(cursor, mHomepageUrl, entry.getHomepageUrl()));
+            entry.setNavigatorUrl(getString(cursor, mNavigatorUrl, entry.getNavigatorUrl()));
+            entry.setPhone(getString(cursor, mPhone, entry.getPhone()));
+            entry.setEmail(getString(cursor, mEmail, entry.getEmail()));
+            entry.setSocial(getString(cursor, mSocial, entry.getSocial()));
+            entry.setImpact(getDouble(cursor, mImpact, entry.getImpact()));
+            entry.setType(getInt(cursor, mType, entry.getType()));
+            entry.setModified(getLong(cursor, mModified, entry.getModified()));
+        }
+    }
+
+    private static final class TargetMapper extends SpawnMapper<Target> {
+
+        private final int mFrequency, mPercent;
+
+        TargetMapper(Cursor cursor) {
+            super(cursor);
+            mFrequency = cursor.getColumnIndex(CompanyEntry.COLUMN_FREQUENCY);
+            mPercent = cursor.getColumnIndex(CompanyEntry.COLUMN_PERCENT);
+        }
+
+        @Override Target create() { return new Target(); }
+
+        @Override public void read(Cursor cursor, Target entry) {
+            super.read(cursor, entry);
+            entry.setFrequency(getInt(cursor, mFrequency, entry.getFrequency()));
+            entry.setPercent(getDouble(cursor, mPercent, entry.getPercent()));
+        }
+    }
+
+    private static final class RecordMapper extends SpawnMapper<Record> {
+
+        private final int mMemo, mTime;
+
+        RecordMapper(Cursor cursor) {
+            super(cursor);
+            mMemo = cursor.getColumnIndex(CompanyEntry.COLUMN_MEMO);
+            mTime = cursor.getColumnIndex(CompanyEntry.COLUMN_TIME);
+        }
+
+        @Override Record create() { return new Record(); }
+
+        @Override public void read(Cursor cursor, Record entry) {
+            super.read(cursor, entry);
+            entry.setMemo(getString(cursor, mMemo, entry.getMemo()));
+            entry.setTime(getLong(cursor, mTime, entry.getTime()));
+        }
+    }
+
+    private static final class UserMapper extends CursorMapper<User> {
+
+        private final int mUid, mUserEmail, mUserActive, mUserBirthdate, mUserGender, mUserCredit,
+                mGiveImpact, mGiveMagnitude, mGiveAnchor, mGiveTiming, mGivePayment, mGiveRounding, mGiveReset,
+                mGlanceAnchor, mGlanceSince, mGlanceHometype, mGlanceGraphtype, mGlanceInterval, mGlanceTheme,
+                mIndexAnchor, mIndexCount, mIndexDialog, mIndexFocus, mIndexFilter, mIndexRanked, mIndexCompany,
+                mIndexTerm, mIndexCity, mIndexState, mIndexZip, mIndexMinrating, mIndexPages, mIndexRows,
+                mRecordSort, mRecordOrder, mTargetStamp, mRecordStamp, mSpawnStamp, mUserStamp;
+
+        UserMapper(Cursor cursor) {
+            mUid = cursor.getColumnIndex(UserEntry.COLUMN_UID);
+            mUserEmail = cursor.getColumnIndex(UserEntry.COLUMN_USER_EMAIL);
+            mUserActive = cursor.getColumnIndex(UserEntry.COLUMN_USER_ACTIVE);
+            mUserBirthdate = cursor.getColumnIndex(UserEntry.COLUMN_USER_BIRTHDATE);
+            mUserGender = cursor.getColumnIndex(UserEntry.COLUMN_USER_GENDER);
+            mUserCredit = cursor.getColumnIndex(UserEntry.COLUMN_USER_CREDIT);
+            mGiveImpact = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_IMPACT);
+            mGiveMagnitude = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_MAGNITUDE);
+            mGiveAnchor = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_ANCHOR);
+            mGiveTiming = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_TIMING);
+            mGivePayment = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_PAYMENT);
+            mGiveRounding = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_ROUNDING);
+            mGiveReset = cursor.getColumnIndex(UserEntry.COLUMN_GIVE_RESET);
+            mGlanceAnchor = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_ANCHOR);
+            mGlanceSince = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_SINCE);
+            mGlanceHometype = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_HOMETYPE);
+            mGlanceGraphtype = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_GRAPHTYPE);
+            mGlanceInterval = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_INTERVAL);
+            mGlanceTheme = cursor.getColumnIndex(UserEntry.COLUMN_GLANCE_THEME);
+            mIndexAnchor = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_ANCHOR);
+            mIndexCount = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_COUNT);
+            mIndexDialog = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_DIALOG);
+            mIndexFocus = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_FOCUS);
+            mIndexFilter = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_FILTER);
+            mIndexRanked = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_RANKED);
+            mIndexCompany = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_COMPANY);
+            mIndexTerm = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_TERM);
+            mIndexCity = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_CITY);
+            mIndexState = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_STATE);
+            mIndexZip = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_ZIP);
+            mIndexMinrating = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_MINRATING);
+            mIndexPages = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_PAGES);
+            mIndexRows = cursor.getColumnIndex(UserEntry.COLUMN_INDEX_ROWS);
+            mRecordSort = cursor.getColumnIndex(UserEntry.COLUMN_RECORD_SORT);
+            mRecordOrder = cursor.getColumnIndex(UserEntry.COLUMN_RECORD_ORDER);
+            mTargetStamp = cursor.getColumnIndex(UserEntry.COLUMN_TARGET_STAMP);
+            mRecordStamp = cursor.getColumnIndex(UserEntry.COLUMN_RECORD_STAMP);
+            mSpawnStamp = cursor.getColumnIndex(UserEntry.COLUMN_SPAWN_STAMP);
+            mUserStamp = cursor.getColumnIndex(UserEntry.COLUMN_USER_STAMP);
+        }
+
+        @Override User create() { return new User(); }
+
+        @Override public void read(Cursor cursor, User entry) {
+            entry.setUid(getString(cursor, mUid, entry.getUid()));
+            entry.setUserEmail(getString(cursor, mUserEmail, entry.getUserEmail()));
+            entry.setUserActive(getBoolean(cursor, mUserActive, entry.getUserActive()));
+            entry.setUserBirthdate(getString(cursor, mUserBirthdate, entry.getUserBirthdate()));
+            entry.setUserGender(getString(cursor, mUserGender, entry.getUserGender()));
+            entry.setUserCredit(getInt(cursor, mUserCredit, entry.getUserCredit()));
+            entry.setGiveImpact(getDouble(cursor, mGiveImpact, entry.getGiveImpact()));
+            entry.setGiveMagnitude(getDouble(cursor, mGiveMagnitude, entry.getGiveMagnitude()));
+            entry.setGiveAnchor(getLong(cursor, mGiveAnchor, entry.getGiveAnchor()));
+            entry.setGiveTiming(getInt(cursor, mGiveTiming, entry.getGiveTiming()));
+            entry.setGivePayment(getBoolean(cursor, mGivePayment, entry.getGivePayment()));
+            entry.setGiveRounding(getInt(cursor, mGiveRounding, entry.getGiveRounding()));
+            entry.setGiveReset(getBoolean(cursor, mGiveReset, entry.getGiveReset()));
+            entry.setGlanceAnchor(getLong(cursor, mGlanceAnchor, entry.getGlanceAnchor()));
+            entry.setGlanceSince(getBoolean(cursor, mGlanceSince, entry.getGlanceSince()));
+            entry.setGlanceHometype(getInt(cursor, mGlanceHometype, entry.getGlanceHometype()));
+            entry.setGlanceGraphtype(getInt(cursor, mGlanceGraphtype, entry.getGlanceGraphtype()));
+            entry.setGlanceInterval(getInt(cursor, mGlanceInterval, entry.getGlanceInterval()));
+            entry.setGlanceTheme(getInt(cursor, mGlanceTheme, entry.getGlanceTheme()));
+            entry.setIndexAnchor(getLong(cursor, mIndexAnchor, entry.getIndexAnchor()));
+            entry.setIndexCount(getInt(cursor, mIndexCount, entry.getIndexCount()));
+            entry.setIndexDialog(getBoolean(cursor, mIndexDialog, entry.getIndexDialog()));
+            entry.setIndexFocus(getBoolean(cursor, mIndexFocus, entry.getIndexFocus()));
+            entry.setIndexFilter(getBoolean(cursor, mIndexFilter, entry.getIndexFilter()));
+            entry.setIndexRanked(getBoolean(cursor, mIndexRanked, entry.getIndexRanked()));
+            entry.setIndexCompany(getString(cursor, mIndexCompany, entry.getIndexCompany()));
+            entry.setIndexTerm(getString(cursor, mIndexTerm, entry.getIndexTerm()));
+            entry.setIndexCity(getString(cursor, mIndexCity, entry.getIndexCity()));
+            entry.setIndexState(getString(cursor, mIndexState, entry.getIndexState()));
+            entry.setIndexZip(getString(cursor, mIndexZip, entry.getIndexZip()));
+            entry.setIndexMinrating(getString(cursor, mIndexMinrating, entry.getIndexMinrating()));
+            entry.setIndexPages(getString(cursor, mIndexPages, entry.getIndexPages()));
+            entry.setIndexRows(getString(cursor, mIndexRows, entry.getIndexRows()));
+            entry.setRecordSort(getString(cursor, mRecordSort, entry.getRecordSort()));
+            entry.setRecordOrder(getString(cursor, mRecordOrder, entry.getRecordOrder()));
+            entry.setTargetStamp(getLong(cursor, mTargetStamp, entry.getTargetStamp()));
+            entry.setRecordStamp(getLong(cursor, mRecordStamp, entry.getRecordStamp()));
+            entry.setSpawnStamp(getLong(cursor, mSpawnStamp, entry.getSpawnStamp()));
+            entry.setUserStamp(getLong(cursor, mUserStamp, entry.getUserStamp()));
+        }
+    }
+}
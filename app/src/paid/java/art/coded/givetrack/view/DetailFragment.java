@@ -304,7 +304,7 @@ public class DetailFragment extends Fragment {
             if (context == null) return null;
             Cursor cursor = context.getContentResolver()
                     .query(DatabaseContract.CompanyEntry.CONTENT_URI_TARGET,
-                            null,
+                            DatabaseContract.CompanyEntry.PROJECTION_ID,
                             DatabaseContract.CompanyEntry.COLUMN_EIN + " = ? ",
                             new String[] { company[0].getEin() },
                             null);
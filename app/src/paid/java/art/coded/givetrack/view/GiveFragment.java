@@ -16,7 +16,6 @@ import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.RecyclerView;
 
 import android.os.Message;
-import android.os.Parcelable;
 import android.view.Gravity;
 import android.view.KeyEvent;
 import android.view.LayoutInflater;
@@ -43,9 +42,9 @@ import butterknife.Optional;
 import timber.log.Timber;
 
 import art.coded.calibrater.Calibrater;
-import art.coded.givetrack.AppUtilities;
 import art.coded.givetrack.R;
 import art.coded.givetrack.data.DatabaseManager;
+import art.coded.givetrack.data.EntryRepository;
 import art.coded.givetrack.data.entry.Company;
 import art.coded.givetrack.data.entry.Spawn;
 import art.coded.givetrack.data.entry.Target;
@@ -73,7 +72,6 @@ public class GiveFragment extends Fragment implements
 
     private static final String PANE_STATE = "art.coded.givetrack.ui.state.GIVE_PANE";
     private static final String ADJUST_STATE = "art.coded.givetrack.ui.state.GIVE_ADJUST";
-    private static final String TARGETS_STATE = "art.coded.givetrack.ui.arg.GIVE_TARGETS";
     private static final String USER_STATE = "art.coded.givetrack.ui.arg.GIVE_USER";
     private static final String PERCENTS_STATE = "art.coded.givetrack.ui.arg.GIVE_PERCENTS";
     private static final String POSITION_STATE = "art.coded.givetrack.ui.state.GIVE_POSITION";
@@ -131,17 +129,7 @@ public class GiveFragment extends Fragment implements
             sDualPane = savedInstanceState.getBoolean(PANE_STATE);
             sPercentagesAdjusted = savedInstanceState.getBoolean(ADJUST_STATE);
             mPanePosition = savedInstanceState.getInt(POSITION_STATE);
-            Parcelable[] parcelableArray = savedInstanceState.getParcelableArray(TARGETS_STATE);
 //            savedInstanceState.clear();
-            if (mListAdapter == null && parcelableArray != null) {
-                Target[] valuesArray = AppUtilities.getTypedArrayFromParcelables(parcelableArray, Target.class);
-                List<Target> targetList = new ArrayList<>(Arrays.asList(valuesArray));
-                mListLength = targetList.size();
-                if (mListAdapter == null) mListAdapter = new ListAdapter(targetList);
-                else if (getFragmentManager() != null) getFragmentManager().popBackStack();
-                mRecyclerView.setAdapter(mListAdapter);
-                mListAdapter.swapValues(targetList);
-            }
         }
     }
 
@@ -159,30 +147,7 @@ public class GiveFragment extends Fragment implements
 
         sPercentagesAdjusted = false;
 
-        Bundle args = getArguments();
-        if (args != null) {
-            Parcelable[] parcelableArray = args.getParcelableArray(HomeActivity.ARGS_TARGET_ATTRIBUTES);
-            if (mListAdapter == null && parcelableArray != null) {
-                Target[] valuesArray = AppUtilities.getTypedArrayFromParcelables(parcelableArray, Target.class);
-                List<Target> targetList = new ArrayList<>(Arrays.asList(valuesArray));
-                mListLength = targetList.size();
-                sUser = args.getParcelable(HomeActivity.ARGS_USER_ATTRIBUTES);
-                if (sUser == null) mParentActivity.recreate();
-                else {
-                    mMagnitude = sUser.getGiveMagnitude();
-                    mAmountTotal = sUser.getGiveImpact();
-                    if (mListAdapter == null) {
-                        mListAdapter = new ListAdapter(targetList);
-                        mRecyclerView.setAdapter(mListAdapter);
-                        mListAdapter.swapValues(targetList);
-                    } else if (getFragmentManager() != null) getFragmentManager().popBackStack();
-                }
-            }
-        }
-
-        mTotalText.setText(CURRENCY_FORMATTER.format(mAmountTotal));
         mTotalText.setOnEditorActionListener(this);
-        mTotalLabel.setContentDescription(getString(R.string.description_donation_text, CURRENCY_FORMATTER.format(mAmountTotal)));
 
        if (savedInstanceState != null) {
             sDualPane = savedInstanceState.getBoolean(PANE_STATE);
@@ -196,6 +161,47 @@ public class GiveFragment extends Fragment implements
         return rootView;
     }
 
+    /**
+     * Observes the active user and targets held by {@link EntryRepository} to update the views in place.
+     */
+    @Override public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        EntryRepository.getUser().observe(getViewLifecycleOwner(), this::bindUser);
+        EntryRepository.getTargets().observe(getViewLifecycleOwner(), this::bindTargets);
+    }
+
+    /**
+     * Presents the giving amount of the user, rebinding the list where the amounts of its items change.
+     */
+    private void bindUser(@Nullable User user) {
+        if (user == null) return;
+        boolean magnitudeChanged = user.getGiveMagnitude() != mMagnitude;
+        boolean totalChanged = user.getGiveImpact() != mAmountTotal;
+        sUser = user;
+        mMagnitude = user.getGiveMagnitude();
+        mAmountTotal = user.getGiveImpact();
+
+        if (!mTotalText.hasFocus()) mTotalText.setText(CURRENCY_FORMATTER.format(mAmountTotal));
+        mTotalLabel.setContentDescription(getString(R.string.description_donation_text, CURRENCY_FORMATTER.format(mAmountTotal)));
+        renderActionBar();
+
+        if (mListAdapter == null) return;
+        if (magnitudeChanged) mListAdapter.bindSeries();
+        if (magnitudeChanged || totalChanged) mListAdapter.notifyDataSetChanged();
+    }
+
+    /**
+     * Presents the targets of the user, swapping them into the list if already populated.
+     */
+    private void bindTargets(@Nullable List<Target> targetList) {
+        if (targetList == null || sUser == null) return;
+        mListLength = targetList.size();
+        if (mListAdapter == null) mListAdapter = new ListAdapter(targetList);
+        if (mRecyclerView.getAdapter() != mListAdapter) mRecyclerView.setAdapter(mListAdapter);
+        mListAdapter.swapValues(targetList);
+        renderActionBar();
+    }
+
     /**
      * Saves reference to parent Activity, initializes Loader and updates Layout configuration.
      */
@@ -480,19 +486,31 @@ public class GiveFragment extends Fragment implements
         private static final int VIEW_TYPE_CHARITY = 0;
         private static final int VIEW_TYPE_BUTTON = 1;
         private ImageButton mLastClicked;
-        List<Target> mTargetList;
+        private final ListDiffer<Target> mDiffer;
+        final List<Target> mTargetList; // Swapped in place to remain the list rated by the series
 
         /**
          * Initializes percentage array and percentage button click mRepeatHandler and view updater.
          */
         ListAdapter(List<Target> targetList) {
-            mTargetList = targetList;
+            mTargetList = new ArrayList<>(targetList);
+            mDiffer = new ListDiffer<>(this, 1, Target::getStamp, target -> Arrays.asList(
+                    target.getType(), target.getName(), target.getFrequency(), target.getImpact(), target.getPercent()));
+            mDiffer.present(mTargetList);
+            bindSeries();
+        }
+
+        /**
+         * Rates the percentages of the targets by the magnitude of the user; items must be rebound
+         * for their percentage buttons to adjust the new series.
+         */
+        private void bindSeries() {
             mSeries = Rateraid.withObjects(mTargetList, mMagnitude, Calibrater.STANDARD_PRECISION, clickedView -> {
                 sPercentagesAdjusted = true;
                 scheduleSyncPercentages();
                 renderActionBar();
                 mProgress.setVisibility(View.VISIBLE);
-                notifyDataSetChanged();
+                mDiffer.submit(mTargetList, null); // Percentages are rated in place
             });
         }
 
@@ -649,7 +667,7 @@ public class GiveFragment extends Fragment implements
         }
 
         /**
-         * Swaps the Cursor after completing a load or resetting Loader.
+         * Swaps the values after completing a load or resetting Loader, updating only the items that differ.
          */
         private void swapValues(List<Target> targetList) {
 //            if (sPercentages.length != sValuesArray.length)
@@ -657,17 +675,20 @@ public class GiveFragment extends Fragment implements
 //            for (int i = 0; i < sPercentages.length; i++) {
 //                sPercentages[i] = sValuesArray[i].getPercent();
 //            }
-            mTargetList = targetList;
-            if (sUser.getGiveReset()) {
+            boolean reset = sUser.getGiveReset();
+            if (reset) {
                 if (sUser == null) return;
                 // Occurs before percent sync to prevent callback with reset still set to true
                 sUser.setGiveReset(false);
                 DatabaseManager.startActionUpdateUser(mContext, sUser);
 
-                Rateraid.resetRatings(mTargetList, true, Calibrater.STANDARD_PRECISION);
-                syncPercentages();
-            }
-            notifyDataSetChanged();
+                Rateraid.resetRatings(targetList, true, Calibrater.STANDARD_PRECISION);
+            } else Rateraid.recalibrateRatings(targetList, false, Calibrater.STANDARD_PRECISION);
+            mDiffer.submit(targetList, () -> {
+                mTargetList.clear();
+                mTargetList.addAll(targetList);
+                if (reset) syncPercentages();
+            });
         }
 
         /**
@@ -680,7 +701,7 @@ public class GiveFragment extends Fragment implements
 //            Timber.d(sPercentages[i] + " " + mAmountTotal + " " + i + " " + sPercentages.length);
 //        }
             if (isDualPane()) showSinglePane();
-            DatabaseManager.startActionUpdateTarget(mContext, mTargetList.toArray(new Target[0])); // Locks UI on signout and remote launch
+            DatabaseManager.startActionUpdatePercent(mContext, mTargetList.toArray(new Target[0])); // Locks UI on signout and remote launch
             sPercentagesAdjusted = false;
             if (mRemoveDialog != null) mRemoveDialog.dismiss();
         }
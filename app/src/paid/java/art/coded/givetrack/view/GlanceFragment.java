@@ -4,9 +4,11 @@ import android.app.DatePickerDialog;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.Configuration;
+import android.database.Cursor;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Typeface;
+import android.net.Uri;
 import android.os.Bundle;
 
 import androidx.annotation.NonNull;
@@ -14,8 +16,10 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
 import androidx.core.widget.NestedScrollView;
 import androidx.fragment.app.Fragment;
+import androidx.loader.app.LoaderManager;
+import androidx.loader.content.CursorLoader;
+import androidx.loader.content.Loader;
 
-import android.os.Parcelable;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
@@ -47,14 +51,14 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.IAxisValueFormatter;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
-import art.coded.givetrack.AppUtilities;
 import art.coded.givetrack.R;
+import art.coded.givetrack.data.DatabaseContract;
+import art.coded.givetrack.data.DatabaseContract.AggregateEntry;
 import art.coded.givetrack.data.DatabaseManager;
-import art.coded.givetrack.data.entry.Record;
+import art.coded.givetrack.data.EntryRepository;
 import art.coded.givetrack.data.entry.User;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -74,6 +78,7 @@ import static art.coded.givetrack.AppUtilities.DATE_FORMATTER;
 public class GlanceFragment extends Fragment implements
         DialogInterface.OnClickListener,
         DatePickerDialog.OnDateSetListener,
+        LoaderManager.LoaderCallbacks<Cursor>,
         IAxisValueFormatter {
 
     private static final String SCROLL_STATE = "art.coded.givetrack.ui.state.GLANCE_SCROLL";
@@ -91,7 +96,6 @@ public class GlanceFragment extends Fragment implements
             R.color.colorComfort,
             R.color.colorNeutral
     };
-    private static Record[] sValuesArray;
     private static User sUser;
     private static boolean mViewTracked;
     private static int mInterval = 1;
@@ -198,30 +202,42 @@ public class GlanceFragment extends Fragment implements
         mIntervalText.setPaintFlags(mIntervalText.getPaintFlags() | Paint.UNDERLINE_TEXT_FLAG);
         mTypeText.setPaintFlags(mTypeText.getPaintFlags() | Paint.UNDERLINE_TEXT_FLAG);
 
-        Bundle args = getArguments();
-        if (args != null) {
-            sUser = args.getParcelable(HomeActivity.ARGS_USER_ATTRIBUTES);
-            Parcelable[] parcelables = args.getParcelableArray(HomeActivity.ARGS_RECORD_ATTRIBUTES);
-            if (parcelables != null) sValuesArray = AppUtilities.getTypedArrayFromParcelables(parcelables, Record.class);
-        }
-        if (sUser != null) {
-            Date date = new Date(sUser.getGlanceAnchor());
-            DATE_FORMATTER.setTimeZone(TimeZone.getDefault());
-            String formattedDate = DATE_FORMATTER.format(date);
-            mTimeTracked = String.format("since %s", formattedDate);
-
-            mViewTracked = sUser.getGlanceSince();
-            mHomeType = sUser.getGlanceHometype();
-            mGraphType = sUser.getGlanceGraphtype();
-            mInterval = sUser.getGlanceInterval();
-            toggleAmount(mAmountLabel, mViewTracked);
-
-            sThemeIndex = sUser.getGlanceTheme();
-            mAmountWrapper.setBackgroundColor(getResources().getColor(COLORS[sThemeIndex], null));
-        }
         return rootView;
     }
 
+    /**
+     * Observes the active user held by {@link EntryRepository} to update the views in place.
+     */
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        EntryRepository.getUser().observe(getViewLifecycleOwner(), this::bindUser);
+    }
+
+    /**
+     * Presents the glance preferences of the user, reloading the record totals once resumed.
+     */
+    private void bindUser(@Nullable User user) {
+        if (user == null) return;
+        sUser = user;
+
+        Date date = new Date(sUser.getGlanceAnchor());
+        DATE_FORMATTER.setTimeZone(TimeZone.getDefault());
+        String formattedDate = DATE_FORMATTER.format(date);
+        mTimeTracked = String.format("since %s", formattedDate);
+
+        mViewTracked = sUser.getGlanceSince();
+        mHomeType = sUser.getGlanceHometype();
+        mGraphType = sUser.getGlanceGraphtype();
+        mInterval = sUser.getGlanceInterval();
+        toggleAmount(mAmountLabel, mViewTracked);
+
+        sThemeIndex = sUser.getGlanceTheme();
+        mAmountWrapper.setBackgroundColor(getResources().getColor(COLORS[sThemeIndex], null));
+
+        if (isResumed()) refresh();
+    }
+
     /**
      * Saves reference to parent Activity, initializes Loader and updates Layout configuration.
      */
@@ -240,10 +256,17 @@ public class GlanceFragment extends Fragment implements
     public void onResume() {
         super.onResume();
         if (sUser == null) return;
+        refresh();
+    }
+
+    /**
+     * Updates the labels of the user preferences and restarts the {@link Loader} of the record totals.
+     */
+    private void refresh() {
         updateTime();
         updateGraphTyoe();
         updateHomeType();
-        renderCharts();
+        LoaderManager.getInstance(this).restartLoader(DatabaseContract.LOADER_ID_AGGREGATE, null, this);
     }
 
     /**
@@ -261,6 +284,34 @@ public class GlanceFragment extends Fragment implements
         super.onSaveInstanceState(outState);
     }
 
+    /**
+     * Defines the record totals to be returned from {@link LoaderManager.LoaderCallbacks}
+     * for the interval and types selected by the user.
+     */
+    @NonNull @Override public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
+        if (id != DatabaseContract.LOADER_ID_AGGREGATE || sUser == null || mContext == null)
+            throw new RuntimeException(getString(R.string.loader_error_message, id));
+        Uri aggregateUri = AggregateEntry.CONTENT_URI_RECORD_AGGREGATE.buildUpon()
+                .appendQueryParameter(AggregateEntry.PARAM_INTERVAL, String.valueOf(mInterval))
+                .appendQueryParameter(AggregateEntry.PARAM_GRAPH_TYPE, String.valueOf(mGraphType))
+                .appendQueryParameter(AggregateEntry.PARAM_HOME_TYPE, String.valueOf(mHomeType))
+                .appendQueryParameter(AggregateEntry.PARAM_SINCE, String.valueOf(sUser.getGlanceAnchor()))
+                .build();
+        return new CursorLoader(mContext, aggregateUri, null, DatabaseContract.CompanyEntry.COLUMN_UID + " = ? ", new String[] { sUser.getUid() }, null);
+    }
+
+    /**
+     * Renders the charts from the record totals retrieved by the {@link Loader}.
+     */
+    @Override public void onLoadFinished(@NonNull Loader<Cursor> loader, Cursor data) {
+        if (data != null && mUnbinder != null) renderCharts(data);
+    }
+
+    /**
+     * Tells the application to remove any stored references to the {@link Loader} data.
+     */
+    @Override public void onLoaderReset(@NonNull Loader<Cursor> loader) { }
+
     /**
      * Defines behaviors on click of DialogInterface buttons.
      */
@@ -473,9 +524,9 @@ public class GlanceFragment extends Fragment implements
     }
 
     /**
-     * Builds the charts supplied by the Fragment layout.
+     * Builds the charts supplied by the Fragment layout from record totals by interval and by name.
      */
-    private void renderCharts() {
+    private void renderCharts(Cursor data) {
 
         if (mContext == null || sUser == null) return;
 
@@ -492,66 +543,53 @@ public class GlanceFragment extends Fragment implements
         float typeTotal = 0;
         float intervalTotal = 0;
 
-        float[] intervalAggregates = new float[10000];
+        float[] intervalAggregates = new float[8]; // Current and past seven intervals
 
         int highDifference = 0;
+        float high = 0f;
 
         float tracked = 0f;
-        long tracktime = sUser.getGlanceAnchor();
 
         List<PieEntry> percentageEntries = new ArrayList<>();
         float donationAmount = 0f;
-        int donationFrequency = sValuesArray.length;
-        if (donationFrequency == 0) return;
-        Map<String, Float> recordAggregates = new HashMap<>(donationFrequency);
-        for (Record record : sValuesArray) {
-            long time = record.getTime();
-            Float amount = (float) record.getImpact();
-            String name = record.getName();
-            int type = record.getType();
-
-
-            if (mHomeType == 0 || type + 1 == mHomeType) {
-                typeTotal += amount;
-                if (time >= tracktime) tracked += amount;
-            }
-            if (mGraphType != 0 && type + 1 != mGraphType) continue;
-
-            recordsTotal += amount;
-            Float recordAggregate = recordAggregates.get(name);
-            float recordAmount = amount + (recordAggregate != null ? recordAggregate : 0f);
-
-            Calendar recordCalendar = Calendar.getInstance();
-            recordCalendar.setTimeInMillis(time);
-            int recordInterval = recordCalendar.get(mInterval);
-            int currentInterval = Calendar.getInstance().get(mInterval);
-            int intervalDifference = currentInterval - recordInterval;
-
-            if (mInterval != Calendar.YEAR) {
-                int recordYear = recordCalendar.get(Calendar.YEAR);
-                int currentYear = Calendar.getInstance().get(Calendar.YEAR);
-                int yearsDifference = currentYear - recordYear;
-                if (mInterval == Calendar.MONTH) intervalDifference = intervalDifference + (yearsDifference * 12);
-                else intervalDifference = intervalDifference + (yearsDifference * 52);
-                if (intervalDifference > 10000) intervalAggregates = Arrays.copyOf(intervalAggregates, intervalDifference);
-            } intervalAggregates[intervalDifference] += amount;
-
-            if (intervalDifference < 7) {
-                recordAggregates.put(name, recordAmount);
-                intervalTotal += amount;
-            }
-            if (highDifference < intervalDifference) highDifference = intervalDifference;
+        int donationFrequency = 0;
+        Map<String, Float> recordAggregates = new HashMap<>();
+
+        int bucketIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_BUCKET);
+        int nameIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_NAME);
+        int totalIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_TOTAL);
+        int countIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_COUNT);
+        int homeTotalIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_HOME_TOTAL);
+        int trackedIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_TRACKED);
+        int frequencyIndex = data.getColumnIndexOrThrow(AggregateEntry.COLUMN_FREQUENCY);
+
+        if (data.moveToFirst()) {
+            do {
+                float amount = data.getFloat(totalIndex);
+                if (data.isNull(bucketIndex)) { // Totals by name within the past seven intervals
+                    recordAggregates.put(data.getString(nameIndex), amount);
+                    intervalTotal += amount;
+                    continue;
+                }
+                typeTotal += data.getFloat(homeTotalIndex);
+                tracked += data.getFloat(trackedIndex);
+                donationFrequency += data.getInt(frequencyIndex);
+                if (data.getInt(countIndex) == 0) continue;
+
+                int intervalDifference = data.getInt(bucketIndex);
+                recordsTotal += amount;
+                if (amount > high) high = amount;
+                if (intervalDifference >= 0 && intervalDifference < intervalAggregates.length) {
+                    intervalAggregates[intervalDifference] = amount;
+                    donationAmount += amount;
+                }
+                if (highDifference < intervalDifference) highDifference = intervalDifference;
+            } while (data.moveToNext());
         }
+        if (donationFrequency == 0) return;
 
         mTracked = CURRENCY_FORMATTER.format(tracked);
 
-        float high = 0f;
-        for (int i = 0; i < intervalAggregates.length; i++) {
-            float a = intervalAggregates[i];
-            if (a > high) high = a;
-            if (i < 8) donationAmount += a;
-        }
-
         StringBuilder percentageMessageBuilder = new StringBuilder(String.format("Past 7 %ss\n", mIntervalContent));
 
         mTotal = CURRENCY_FORMATTER.format(typeTotal);
@@ -633,7 +671,7 @@ public class GlanceFragment extends Fragment implements
         String intervalLabel = "Average " + mIntervalContent;
         String donationLabel = "Average Gift";
         float perInterval = recordsTotal / (highDifference + 1);
-        float perDonation = recordsTotal / sValuesArray.length;
+        float perDonation = recordsTotal / donationFrequency;
         String averageMessage = String.format(" %sly\n\n%s %s\n%s %s\n", mIntervalContent, intervalLabel, CURRENCY_FORMATTER.format(perInterval), donationLabel, CURRENCY_FORMATTER.format(perDonation));
 
         List<PieEntry> averageEntries = new ArrayList<>();
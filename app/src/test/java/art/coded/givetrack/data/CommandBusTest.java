@@ -0,0 +1,102 @@
+package art.coded.givetrack.data;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import art.coded.givetrack.data.CommandBus.Command;
+import art.coded.givetrack.data.CommandBus.Lane;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the coalescing of waiting commands by {@link CommandBus}.
+ */
+public class CommandBusTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Asserts whether a keyed write supersedes a waiting write of the same key
+     * so that only the latest runs.
+     */
+    @Test public final void testPostLatestSupersedesWaiting() throws Exception {
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = block(Lane.INTERACTIVE);
+
+        Command first = CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("first"));
+        Command second = CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("second"));
+        Command other = CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, "other", () -> runs.add("other"));
+        latch.countDown();
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        other.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue(first.isCancelled());
+        assertEquals(2, runs.size());
+        assertTrue(runs.contains("second"));
+        assertTrue(runs.contains("other"));
+    }
+
+    /**
+     * Asserts whether a keyed write is left in place where an unkeyed command was posted after it,
+     * so that the unkeyed command observes its effect.
+     */
+    @Test public final void testPostLatestKeepsOrderAcrossUnkeyed() throws Exception {
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = block(Lane.INTERACTIVE);
+
+        Command first = CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("first"));
+        CommandBus.post(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, () -> runs.add("unkeyed"));
+        Command second = CommandBus.postLatest(Lane.INTERACTIVE, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("second"));
+        latch.countDown();
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(first.isCancelled());
+        assertEquals("first", runs.get(0));
+        assertEquals("unkeyed", runs.get(1));
+        assertEquals("second", runs.get(2));
+    }
+
+    /**
+     * Asserts whether a keyed read joins a waiting read of the same key
+     * so that a single run serves both requests.
+     */
+    @Test public final void testPostOnceJoinsWaiting() throws Exception {
+
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = block(Lane.SYNC);
+
+        Command first = CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("first"));
+        Command second = CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("second"));
+        latch.countDown();
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertSame(first, second);
+        assertEquals(1, runs.size());
+        assertEquals("first", runs.get(0));
+
+        Command third = CommandBus.postOnce(Lane.SYNC, CommandBus.PRIORITY_DEFAULT, "key", () -> runs.add("third"));
+        third.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals("third", runs.get(1)); // posted anew once the waiting read has run
+    }
+
+    /**
+     * Occupies the single thread of a lane until the returned latch is released.
+     */
+    private static CountDownLatch block(Lane lane) {
+        CountDownLatch latch = new CountDownLatch(1);
+        CommandBus.postLatest(lane, CommandBus.PRIORITY_HIGH, "block", () -> {
+            try { latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS); }
+            catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        });
+        return latch;
+    }
+}
@@ -0,0 +1,195 @@
+package art.coded.givetrack.data;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import art.coded.givetrack.data.DatabaseContract.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the tables and indexes created and migrated by {@link DatabaseOpener}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class DatabaseOpenerTest {
+
+    private static final String[] INDEXES = {
+            DatabaseOpener.INDEX_SPAWN_UID_EIN,
+            DatabaseOpener.INDEX_TARGET_UID_EIN,
+            DatabaseOpener.INDEX_TARGET_UID_PERCENT,
+            DatabaseOpener.INDEX_RECORD_UID_EIN,
+            DatabaseOpener.INDEX_RECORD_UID_TIME
+    };
+
+    private DatabaseOpener mOpener;
+    private SQLiteDatabase mDatabase;
+
+    @Before public void setUp() {
+        mOpener = new DatabaseOpener(ApplicationProvider.getApplicationContext());
+        mDatabase = mOpener.getWritableDatabase();
+    }
+
+    @After public void tearDown() { mOpener.close(); }
+
+    /**
+     * Asserts whether querying records by user and sorting by time searches the user and time index
+     * without sorting rows in a temporary tree.
+     */
+    @Test public final void testRecordQueryByTimeUsesIndex() {
+
+        String plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_RECORD +
+                " WHERE " + CompanyEntry.COLUMN_UID + " = ? ORDER BY " + CompanyEntry.COLUMN_TIME + " DESC", "uid");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_RECORD_UID_TIME));
+        assertFalse(plan, plan.contains("TEMP B-TREE"));
+    }
+
+    /**
+     * Asserts whether querying targets and records by user and EIN searches the user and EIN indexes.
+     */
+    @Test public final void testQueryByEinUsesIndex() {
+
+        String plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_TARGET + " WHERE " +
+                CompanyEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_EIN + " = ? ", "uid", "ein");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_TARGET_UID_EIN));
+
+        plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_RECORD + " WHERE " +
+                CompanyEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_EIN + " = ? ", "uid", "ein");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_RECORD_UID_EIN));
+    }
+
+    /**
+     * Asserts whether querying targets by user and sorting by percent searches the user and percent index
+     * without sorting rows in a temporary tree.
+     */
+    @Test public final void testTargetQueryByPercentUsesIndex() {
+
+        String plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_TARGET +
+                " WHERE " + CompanyEntry.COLUMN_UID + " = ? ORDER BY " + CompanyEntry.COLUMN_PERCENT + " DESC", "uid");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_TARGET_UID_PERCENT));
+        assertFalse(plan, plan.contains("TEMP B-TREE"));
+    }
+
+    /**
+     * Asserts whether querying targets and records by user changed since a given time searches
+     * the user and modified indexes.
+     */
+    @Test public final void testQueryByModifiedUsesIndex() {
+
+        String plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_TARGET + " WHERE " +
+                CompanyEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_MODIFIED + " > ? ", "uid", "0");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_TARGET_UID_MODIFIED));
+
+        plan = explainQueryPlan("SELECT * FROM " + CompanyEntry.TABLE_NAME_RECORD + " WHERE " +
+                CompanyEntry.COLUMN_UID + " = ? AND " + CompanyEntry.COLUMN_MODIFIED + " > ? ", "uid", "0");
+        assertTrue(plan, plan.contains("USING INDEX " + DatabaseOpener.INDEX_RECORD_UID_MODIFIED));
+    }
+
+    /**
+     * Asserts whether upgrading from the first version creates each index while keeping existing rows.
+     */
+    @Test public final void testUpgradeCreatesIndexesKeepsRows() {
+
+        for (String index : INDEXES) mDatabase.execSQL("DROP INDEX " + index);
+        assertEquals(0, countIndexes());
+
+        ContentValues values = new ContentValues();
+        values.put(CompanyEntry.COLUMN_STAMP, 1L);
+        values.put(CompanyEntry.COLUMN_UID, "uid");
+        values.put(CompanyEntry.COLUMN_EIN, "ein");
+        values.put(CompanyEntry.COLUMN_IMPACT, "0");
+        values.put(CompanyEntry.COLUMN_TYPE, 0);
+        values.put(CompanyEntry.COLUMN_MEMO, "");
+        values.put(CompanyEntry.COLUMN_TIME, 0L);
+        mDatabase.insertOrThrow(CompanyEntry.TABLE_NAME_RECORD, null, values);
+
+        mOpener.onUpgrade(mDatabase, 1, 2);
+        assertEquals(INDEXES.length, countIndexes());
+
+        Cursor cursor = mDatabase.query(CompanyEntry.TABLE_NAME_RECORD, null, null, null, null, null, null);
+        assertEquals(1, cursor.getCount());
+        cursor.close();
+    }
+
+    /**
+     * Asserts whether upgrading tables holding company profiles moves the latest profile of each EIN
+     * into the company table, removes profiles from the records while keeping their rows and restores indexes.
+     */
+    @Test public final void testUpgradeMovesProfilesToCompanyTable() {
+
+        mDatabase.execSQL("DROP TABLE " + CompanyEntry.TABLE_NAME_TARGET);
+        mDatabase.execSQL("DROP TABLE " + CompanyEntry.TABLE_NAME_RECORD);
+        mDatabase.execSQL("DROP TABLE " + CompanyEntry.TABLE_NAME_COMPANY);
+        mDatabase.execSQL(createProfiledTable(CompanyEntry.TABLE_NAME_TARGET, CompanyEntry.COLUMN_PERCENT, CompanyEntry.COLUMN_FREQUENCY));
+        mDatabase.execSQL(createProfiledTable(CompanyEntry.TABLE_NAME_RECORD, CompanyEntry.COLUMN_MEMO, CompanyEntry.COLUMN_TIME));
+
+        for (long stamp = 1; stamp <= 3; stamp++) {
+            ContentValues values = new ContentValues();
+            values.put(CompanyEntry.COLUMN_STAMP, stamp);
+            values.put(CompanyEntry.COLUMN_UID, "uid");
+            values.put(CompanyEntry.COLUMN_EIN, "ein");
+            for (String column : CompanyEntry.COLUMNS_PROFILE) values.put(column, "");
+            values.put(CompanyEntry.COLUMN_NAME, "name " + stamp);
+            values.put(CompanyEntry.COLUMN_IMPACT, "0");
+            values.put(CompanyEntry.COLUMN_TYPE, 0);
+            values.put(CompanyEntry.COLUMN_MEMO, "");
+            values.put(CompanyEntry.COLUMN_TIME, stamp);
+            mDatabase.insertOrThrow(CompanyEntry.TABLE_NAME_RECORD, null, values);
+        }
+
+        mOpener.onUpgrade(mDatabase, 4, 5);
+
+        Cursor cursor = mDatabase.query(CompanyEntry.TABLE_NAME_COMPANY, null, null, null, null, null, null);
+        assertEquals(1, cursor.getCount());
+        cursor.moveToFirst();
+        assertEquals("name 3", cursor.getString(cursor.getColumnIndexOrThrow(CompanyEntry.COLUMN_NAME)));
+        cursor.close();
+
+        cursor = mDatabase.query(CompanyEntry.TABLE_NAME_RECORD, null, null, null, null, null, null);
+        assertEquals(3, cursor.getCount());
+        assertEquals(-1, cursor.getColumnIndex(CompanyEntry.COLUMN_NAME));
+        cursor.close();
+        assertEquals(INDEXES.length, countIndexes());
+    }
+
+    private static String createProfiledTable(String tableName, String... columns) {
+        StringBuilder statement = new StringBuilder("CREATE TABLE ").append(tableName).append(" (")
+                .append(CompanyEntry.COLUMN_STAMP).append(" INTEGER PRIMARY KEY, ")
+                .append(CompanyEntry.COLUMN_UID).append(", ").append(CompanyEntry.COLUMN_EIN);
+        for (String column : CompanyEntry.COLUMNS_PROFILE) statement.append(", ").append(column);
+        statement.append(", ").append(CompanyEntry.COLUMN_IMPACT).append(", ").append(CompanyEntry.COLUMN_TYPE);
+        for (String column : columns) statement.append(", ").append(column);
+        return statement.append(", ").append(CompanyEntry.COLUMN_MODIFIED).append(" INTEGER NOT NULL DEFAULT 0)").toString();
+    }
+
+    private String explainQueryPlan(String query, String... args) {
+        StringBuilder plan = new StringBuilder();
+        Cursor cursor = mDatabase.rawQuery("EXPLAIN QUERY PLAN " + query, args);
+        int detailIndex = cursor.getColumnIndexOrThrow("detail");
+        while (cursor.moveToNext()) plan.append(cursor.getString(detailIndex)).append('\n');
+        cursor.close();
+        return plan.toString();
+    }
+
+    private int countIndexes() {
+        int count = 0;
+        for (String index : INDEXES) {
+            Cursor cursor = mDatabase.rawQuery(
+                    "SELECT name FROM sqlite_master WHERE type = 'index' AND name = ?", new String[] { index });
+            count += cursor.getCount();
+            cursor.close();
+        } return count;
+    }
+}
@@ -0,0 +1,154 @@
+package art.coded.givetrack.data;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import art.coded.givetrack.data.DatabaseContract.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test methods for the bulk insertion and querying of rows by {@link DatabaseProvider}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class DatabaseProviderTest {
+
+    private DatabaseProvider mProvider;
+
+    @Before public void setUp() {
+        mProvider = Robolectric.buildContentProvider(DatabaseProvider.class).create().get();
+    }
+
+    @After public void tearDown() { mProvider.shutdown(); }
+
+    /**
+     * Asserts whether inserting rows in bulk replaces rows of the same stamp
+     * and inserts rows whose columns differ from those of the preceding row.
+     */
+    @Test public final void testBulkInsertReplacesConflictingRows() {
+
+        ContentValues first = buildRecordValues(1L, "first");
+        ContentValues replacement = buildRecordValues(1L, "replacement");
+        ContentValues second = buildRecordValues(2L, "second");
+        second.remove(CompanyEntry.COLUMN_MODIFIED); // compiles a statement for the differing columns
+
+        int rowsInserted = mProvider.bulkInsert(CompanyEntry.CONTENT_URI_RECORD,
+                new ContentValues[] { first, null, replacement, second });
+        assertEquals(3, rowsInserted);
+
+        Cursor cursor = mProvider.query(CompanyEntry.CONTENT_URI_RECORD, null, null, null, CompanyEntry.COLUMN_STAMP);
+        assertEquals(2, cursor.getCount());
+        int nameIndex = cursor.getColumnIndexOrThrow(CompanyEntry.COLUMN_NAME);
+        cursor.moveToFirst();
+        assertEquals("replacement", cursor.getString(nameIndex));
+        cursor.moveToNext();
+        assertEquals("second", cursor.getString(nameIndex));
+        cursor.close();
+    }
+
+    /**
+     * Asserts whether a table query returns no more rows than the limit parameter of the {@link android.net.Uri}.
+     */
+    @Test public final void testQueryReturnsRowsUpToLimit() {
+
+        mProvider.bulkInsert(CompanyEntry.CONTENT_URI_RECORD, new ContentValues[] {
+                buildRecordValues(1L, "first"), buildRecordValues(2L, "second"), buildRecordValues(3L, "third") });
+
+        Cursor cursor = mProvider.query(CompanyEntry.CONTENT_URI_RECORD.buildUpon()
+                .appendQueryParameter(DatabaseContract.PARAM_LIMIT, "2").build(),
+                null, null, null, CompanyEntry.COLUMN_STAMP + " DESC");
+        assertEquals(2, cursor.getCount());
+        cursor.moveToFirst();
+        assertEquals(3L, cursor.getLong(cursor.getColumnIndexOrThrow(CompanyEntry.COLUMN_STAMP)));
+        cursor.close();
+    }
+
+    /**
+     * Asserts whether records of the same EIN are read with the single profile last written for it
+     * and whether the profile is removed along with the last record referencing it.
+     */
+    @Test public final void testRecordsShareProfileOfEin() {
+
+        ContentValues first = buildRecordValues(1L, "ein");
+        ContentValues second = buildRecordValues(2L, "ein");
+        second.put(CompanyEntry.COLUMN_NAME, "renamed");
+        mProvider.bulkInsert(CompanyEntry.CONTENT_URI_RECORD, new ContentValues[] { first, second });
+
+        Cursor cursor = mProvider.query(CompanyEntry.CONTENT_URI_RECORD, null, null, null, CompanyEntry.COLUMN_STAMP);
+        assertEquals(2, cursor.getCount());
+        int nameIndex = cursor.getColumnIndexOrThrow(CompanyEntry.COLUMN_NAME);
+        while (cursor.moveToNext()) assertEquals("renamed", cursor.getString(nameIndex));
+        cursor.close();
+
+        mProvider.delete(CompanyEntry.CONTENT_URI_RECORD, null, null);
+        DatabaseOpener opener = new DatabaseOpener(ApplicationProvider.getApplicationContext());
+        assertEquals(0, DatabaseUtils.queryNumEntries(opener.getReadableDatabase(), CompanyEntry.TABLE_NAME_COMPANY));
+        opener.close();
+    }
+
+    /**
+     * Asserts whether records leave unchanged the profile of the targeted EIN of their user
+     * and whether updating the profile alone counts the targets selected rather than the profiles.
+     */
+    @Test public final void testRecordsKeepProfileOfTarget() {
+
+        ContentValues target = buildRecordValues(1L, "ein");
+        target.remove(CompanyEntry.COLUMN_MEMO);
+        target.remove(CompanyEntry.COLUMN_TIME);
+        target.put(CompanyEntry.COLUMN_PERCENT, "1");
+        target.put(CompanyEntry.COLUMN_FREQUENCY, 0);
+        target.put(CompanyEntry.COLUMN_NAME, "targeted");
+        mProvider.insert(CompanyEntry.CONTENT_URI_TARGET, target);
+        mProvider.bulkInsert(CompanyEntry.CONTENT_URI_RECORD, new ContentValues[] { buildRecordValues(2L, "ein") });
+        assertEquals("targeted", queryRecordName());
+
+        ContentValues renamed = new ContentValues();
+        renamed.put(CompanyEntry.COLUMN_NAME, "renamed");
+        assertEquals(1, mProvider.update(CompanyEntry.CONTENT_URI_TARGET, renamed, null, null));
+        assertEquals("renamed", queryRecordName());
+    }
+
+    private String queryRecordName() {
+        Cursor cursor = mProvider.query(CompanyEntry.CONTENT_URI_RECORD, null, null, null, null);
+        cursor.moveToFirst();
+        String name = cursor.getString(cursor.getColumnIndexOrThrow(CompanyEntry.COLUMN_NAME));
+        cursor.close();
+        return name;
+    }
+
+    private static ContentValues buildRecordValues(long stamp, String name) {
+        ContentValues values = new ContentValues();
+        values.put(CompanyEntry.COLUMN_STAMP, stamp);
+        values.put(CompanyEntry.COLUMN_UID, "uid");
+        values.put(CompanyEntry.COLUMN_EIN, name); // Profiles are held once for each EIN
+        values.put(CompanyEntry.COLUMN_NAME, name);
+        values.put(CompanyEntry.COLUMN_LOCATION_STREET, "");
+        values.put(CompanyEntry.COLUMN_LOCATION_DETAIL, "");
+        values.put(CompanyEntry.COLUMN_LOCATION_CITY, "");
+        values.put(CompanyEntry.COLUMN_LOCATION_STATE, "");
+        values.put(CompanyEntry.COLUMN_LOCATION_ZIP, "");
+        values.put(CompanyEntry.COLUMN_HOMEPAGE_URL, "");
+        values.put(CompanyEntry.COLUMN_NAVIGATOR_URL, "");
+        values.put(CompanyEntry.COLUMN_PHONE, "");
+        values.put(CompanyEntry.COLUMN_EMAIL, "");
+        values.put(CompanyEntry.COLUMN_SOCIAL, "");
+        values.put(CompanyEntry.COLUMN_IMPACT, "0");
+        values.put(CompanyEntry.COLUMN_TYPE, 0);
+        values.put(CompanyEntry.COLUMN_MEMO, "");
+        values.put(CompanyEntry.COLUMN_TIME, 0L);
+        values.put(CompanyEntry.COLUMN_MODIFIED, 0L);
+        return values;
+    }
+}
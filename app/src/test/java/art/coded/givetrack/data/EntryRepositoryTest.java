@@ -0,0 +1,48 @@
+package art.coded.givetrack.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.List;
+
+import art.coded.givetrack.data.entry.Target;
+import art.coded.givetrack.data.entry.User;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test methods for the entries held in process by {@link EntryRepository}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class EntryRepositoryTest {
+
+    /**
+     * Asserts whether targets are kept across updates of the same user
+     * and discarded once another user becomes active.
+     */
+    @Test public final void testSetUserDiscardsTargetsOfOtherUser() {
+
+        List<Target> targets = Collections.singletonList(new Target());
+        EntryRepository.setUser(buildUser("first"));
+        EntryRepository.setTargets(targets);
+
+        EntryRepository.setUser(buildUser("first"));
+        assertSame(targets, EntryRepository.getTargets().getValue());
+
+        User second = buildUser("second");
+        EntryRepository.setUser(second);
+        assertSame(second, EntryRepository.getUser().getValue());
+        assertNull(EntryRepository.getTargets().getValue());
+    }
+
+    private static User buildUser(String uid) {
+        User user = User.getDefault();
+        user.setUid(uid);
+        return user;
+    }
+}
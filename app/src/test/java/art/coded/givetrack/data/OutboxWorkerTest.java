@@ -0,0 +1,60 @@
+package art.coded.givetrack.data;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the merging of queued remote updates by {@link OutboxWorker}.
+ */
+public class OutboxWorkerTest {
+
+    /**
+     * Asserts whether merging a later update overrides values at the same locations
+     * and drops locations within those the later update writes.
+     */
+    @Test public final void testMergeUpdateSupersedesEarlierWrites() {
+
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("target/uid/1/percent", 0.5);
+        batch.put("target/uid/2/percent", 0.5);
+        batch.put("target/uid10/1/percent", 1d);
+        batch.put("user/uid/targetStamp", 1L);
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("target/uid/1", null);
+        update.put("user/uid/targetStamp", 2L);
+
+        assertTrue(OutboxWorker.mergeUpdate(batch, update));
+        assertEquals(4, batch.size());
+        assertTrue(batch.containsKey("target/uid/1"));
+        assertNull(batch.get("target/uid/1"));
+        assertEquals(0.5, batch.get("target/uid/2/percent"));
+        assertEquals(1d, batch.get("target/uid10/1/percent")); // sibling sharing a prefix is kept
+        assertEquals(2L, batch.get("user/uid/targetStamp"));
+    }
+
+    /**
+     * Asserts whether an update writing within a location already written by the batch
+     * is left unmerged so that it is delivered after the batch.
+     */
+    @Test public final void testMergeUpdateWithinBatchLocationDeferred() {
+
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("target/uid", null);
+
+        Map<String, Object> update = new HashMap<>();
+        update.put("target/uid/1/percent", 1d);
+        update.put("user/uid/targetStamp", 2L);
+
+        assertFalse(OutboxWorker.mergeUpdate(batch, update));
+        assertEquals(1, batch.size());
+        assertTrue(batch.containsKey("target/uid"));
+    }
+}
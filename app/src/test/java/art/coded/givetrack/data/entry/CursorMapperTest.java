@@ -0,0 +1,73 @@
+package art.coded.givetrack.data.entry;
+
+import android.database.MatrixCursor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import art.coded.givetrack.data.DatabaseContract.CompanyEntry;
+import art.coded.givetrack.data.DatabaseContract.UserEntry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the mapping of cursor rows to entries by {@link CursorMapper}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class CursorMapperTest {
+
+    /**
+     * Asserts whether each row maps to a target with typed values read from columns
+     * stored as formatted text.
+     */
+    @Test public final void testMapAllReadsTypedValues() {
+
+        MatrixCursor cursor = new MatrixCursor(new String[] {
+                CompanyEntry.COLUMN_UID, CompanyEntry.COLUMN_EIN, CompanyEntry.COLUMN_STAMP, CompanyEntry.COLUMN_NAME,
+                CompanyEntry.COLUMN_IMPACT, CompanyEntry.COLUMN_TYPE, CompanyEntry.COLUMN_FREQUENCY, CompanyEntry.COLUMN_PERCENT
+        });
+        cursor.addRow(new Object[] { "uid", "ein1", 1L, "first", "12.5", 1, 3, "0.25" });
+        cursor.addRow(new Object[] { "uid", "ein2", 2L, "second", "0.0", 0, 0, "0.75" });
+
+        List<Target> targets = CursorMapper.of(Target.class, cursor).mapAll(cursor);
+        assertEquals(2, targets.size());
+
+        Target target = targets.get(0);
+        assertEquals("uid", target.getUid());
+        assertEquals("ein1", target.getEin());
+        assertEquals(1L, target.getStamp());
+        assertEquals("first", target.getName());
+        assertEquals(12.5, target.getImpact(), 0);
+        assertEquals(1, target.getType());
+        assertEquals(3, target.getFrequency());
+        assertEquals(0.25, target.getPercent(), 0);
+        assertEquals(0.75, targets.get(1).getPercent(), 0);
+    }
+
+    /**
+     * Asserts whether columns absent from the cursor leave the fields of the entry unchanged.
+     */
+    @Test public final void testReadKeepsFieldsOfAbsentColumns() {
+
+        MatrixCursor cursor = new MatrixCursor(new String[] { UserEntry.COLUMN_UID, UserEntry.COLUMN_USER_ACTIVE });
+        cursor.addRow(new Object[] { "uid", 1 });
+        cursor.moveToFirst();
+
+        User user = User.getDefault();
+        user.setUserEmail("email");
+        user.setGlanceSince(false);
+        CursorMapper.of(User.class, cursor).read(cursor, user);
+
+        assertEquals("uid", user.getUid());
+        assertTrue(user.getUserActive());
+        assertEquals("email", user.getUserEmail());
+        assertFalse(user.getGlanceSince());
+    }
+}
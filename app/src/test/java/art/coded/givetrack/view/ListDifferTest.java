@@ -0,0 +1,105 @@
+package art.coded.givetrack.view;
+
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import art.coded.givetrack.AppExecutors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Test methods for the dispatch of list differences by {@link ListDiffer}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class ListDifferTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private List<String> mEvents;
+    private ListDiffer<String[]> mDiffer;
+
+    @Before public void setUp() {
+        mEvents = new ArrayList<>();
+        RecyclerView.Adapter<RecyclerView.ViewHolder> adapter = new RecyclerView.Adapter<RecyclerView.ViewHolder>() {
+            @Override public @NonNull RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+                return new RecyclerView.ViewHolder(new View(parent.getContext())) {};
+            }
+            @Override public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {}
+            @Override public int getItemCount() { return 0; }
+        };
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override public void onChanged() { mEvents.add("reset"); }
+            @Override public void onItemRangeChanged(int start, int count, @Nullable Object payload) { mEvents.add("changed " + start + " " + count); }
+            @Override public void onItemRangeInserted(int start, int count) { mEvents.add("inserted " + start + " " + count); }
+            @Override public void onItemRangeRemoved(int start, int count) { mEvents.add("removed " + start + " " + count); }
+            @Override public void onItemRangeMoved(int from, int to, int count) { mEvents.add("moved " + from + " " + to); }
+        });
+        mDiffer = new ListDiffer<>(adapter, 0, value -> value[0], value -> value[1]);
+    }
+
+    /**
+     * Asserts whether changing a value in place dispatches a change of its item alone.
+     */
+    @Test public final void testSubmitChangesItemsDifferingInPlace() throws Exception {
+
+        List<String[]> values = Arrays.asList(new String[] { "a", "1" }, new String[] { "b", "1" }, new String[] { "c", "1" });
+        mDiffer.present(values);
+
+        values.get(1)[1] = "2";
+        mDiffer.submit(values, null);
+        awaitDispatch();
+
+        assertEquals(1, mEvents.size());
+        assertEquals("changed 1 1", mEvents.get(0));
+    }
+
+    /**
+     * Asserts whether prepending a value swaps in the values and dispatches a single insertion
+     * rather than a change of the whole data set.
+     */
+    @Test public final void testSubmitInsertsPrependedItem() throws Exception {
+
+        mDiffer.present(Arrays.asList(new String[] { "a", "1" }, new String[] { "b", "1" }));
+
+        boolean[] swapped = { false };
+        mDiffer.submit(Arrays.asList(new String[] { "z", "1" }, new String[] { "a", "1" }, new String[] { "b", "1" }),
+                () -> swapped[0] = true);
+        awaitDispatch();
+
+        assertTrue(swapped[0]);
+        assertTrue(mEvents.contains("inserted 0 1"));
+        assertFalse(mEvents.contains("reset"));
+        for (String event : mEvents) assertFalse(event.startsWith("removed"));
+    }
+
+    /**
+     * Awaits the differences computing on the worker thread, then runs their dispatch on the main thread.
+     */
+    private static void awaitDispatch() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AppExecutors.getInstance().getDiskIO().execute(latch::countDown);
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+}
@@ -0,0 +1,91 @@
+package art.coded.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link Calibrater} operations applied to a whole series at once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalibrationBenchmark {
+
+    private static final int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static final int SHIFTS = 16;
+
+    @Param({ "2", "10", "100", "1000", "10000" }) public int size;
+
+    private double[] mSource;
+    private List<Double> mPercentList;
+    private double[] mPercentArray;
+    private List<Double> mRemovalList;
+    private int[] mShiftIndices;
+    private double[] mShiftMagnitudes;
+
+    @Setup(Level.Iteration) public void setUp() {
+        mSource = ShiftConvergence.generatePercents(ShiftConvergence.Distribution.LINEAR, size);
+        mPercentList = TypeConverters.arrayDoubleToListDouble(mSource);
+        mPercentArray = mSource.clone();
+        mShiftIndices = new int[Math.min(SHIFTS, size)];
+        mShiftMagnitudes = new double[mShiftIndices.length];
+        for (int i = 0; i < mShiftIndices.length; i++) {
+            mShiftIndices[i] = i * (size / mShiftIndices.length);
+            mShiftMagnitudes[i] = (i % 2 == 0 ? 1d : -1d) * mSource[0] / 2d; // net zero keeps the series stable
+        }
+    }
+
+    // Removal shrinks the series so it is restored before each invocation
+    @Setup(Level.Invocation) public void setUpRemoval() {
+        mRemovalList = new ArrayList<>(size);
+        for (double percent : mSource) mRemovalList.add(percent);
+    }
+
+    @Benchmark public boolean recalibrateRatingsList() {
+        return Calibrater.recalibrateRatings(mPercentList, true, PRECISION);
+    }
+
+    @Benchmark public boolean recalibrateRatingsArray() {
+        return Calibrater.recalibrateRatings(mPercentArray, true, PRECISION);
+    }
+
+    @Benchmark public boolean resetRatingsList() {
+        return Calibrater.resetRatings(mPercentList, true, PRECISION);
+    }
+
+    @Benchmark public boolean resetRatingsArray() {
+        return Calibrater.resetRatings(mPercentArray, true, PRECISION);
+    }
+
+    @Benchmark public boolean applyShiftsArray() {
+        return Calibrater.applyShifts(mPercentArray, mShiftIndices, mShiftMagnitudes, PRECISION);
+    }
+
+    @Benchmark public boolean shiftRatingsSequentialArray() {
+        boolean result = false;
+        for (int i = 0; i < mShiftIndices.length; i++) {
+            result |= Calibrater.shiftRatings(mPercentArray, mShiftIndices[i], mShiftMagnitudes[i], PRECISION);
+        } return result;
+    }
+
+    @Benchmark public boolean removeRatingList() {
+        return Calibrater.removeRating(mRemovalList, size / 2, PRECISION);
+    }
+}
@@ -0,0 +1,64 @@
+package art.coded.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Rounder} against rounding by formatting and parsing strings,
+ * each rounding the impacts of a donation recorded across {@code size} targets.
+ * The gc profiler should report no allocation for the {@link Rounder} benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RounderBenchmark {
+
+    @Param({ "10", "200" }) public int size;
+    @Param({ "FLOOR", "HALF_EVEN" }) public Rounder.Mode mode;
+
+    private double[] mImpacts;
+
+    @Setup(Level.Trial) public void setUp() {
+        double[] percents = ShiftConvergence.generatePercents(ShiftConvergence.Distribution.LINEAR, size);
+        mImpacts = new double[size];
+        for (int i = 0; i < size; i++) mImpacts[i] = percents[i] * 123.45d;
+    }
+
+    @Benchmark public double roundCents() {
+        double sum = 0d;
+        for (double impact : mImpacts) sum += Rounder.roundCents(impact, mode);
+        return sum;
+    }
+
+    @Benchmark public long toScaledCents() {
+        long sum = 0L;
+        for (double impact : mImpacts) sum += Rounder.toScaled(impact, Rounder.CENTS, mode);
+        return sum;
+    }
+
+    @Benchmark public double formatParse() {
+        double sum = 0d;
+        for (double impact : mImpacts) {
+            String impactStr = mode == Rounder.Mode.FLOOR
+                    ? String.valueOf((Math.floor(impact * 100)) / 100)
+                    : String.format(Locale.US, "%.2f", impact);
+            sum += Double.parseDouble(impactStr);
+        } return sum;
+    }
+}
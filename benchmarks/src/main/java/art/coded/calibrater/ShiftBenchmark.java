@@ -0,0 +1,83 @@
+package art.coded.calibrater;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Calibrater#shiftRatings(List, int, double, int)} and its {@code double} array counterparts.
+ * Each operation increments then decrements the same element so the series stays near its initial distribution.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShiftBenchmark {
+
+    private static final int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    @Param({ "2", "10", "100", "1000", "10000" }) public int size;
+    @Param({ "0.001", "0.01", "0.1", "1.0" }) public double magnitude;
+    @Param({ "UNIFORM", "GEOMETRIC" }) public ShiftConvergence.Distribution distribution;
+    @Param({ "ITERATIVE", "EXACT" }) public Calibrater.Redistribution redistribution;
+
+    private List<Double> mPercentList;
+    private double[] mPercentArray;
+    private int mIndex;
+
+    /**
+     * Counts the redistribution passes of each operation, reported alongside throughput.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PassCounter {
+        public long passes;
+        @Setup(Level.Iteration) public void clear() { passes = 0; }
+    }
+
+    @Setup(Level.Iteration) public void setUp() {
+        mPercentArray = ShiftConvergence.generatePercents(distribution, size);
+        mPercentList = TypeConverters.arrayDoubleToListDouble(mPercentArray);
+        mIndex = 0;
+    }
+
+    private int nextIndex() {
+        if (++mIndex == size) mIndex = 0;
+        return mIndex;
+    }
+
+    @Benchmark public boolean shiftRatingsList() {
+        int index = nextIndex();
+        return Calibrater.shiftRatings(mPercentList, index, magnitude, PRECISION, redistribution)
+                & Calibrater.shiftRatings(mPercentList, index, -magnitude, PRECISION, redistribution);
+    }
+
+    @Benchmark public boolean shiftRatingsArray() {
+        int index = nextIndex();
+        return Calibrater.shiftRatings(mPercentArray, size, index, magnitude, PRECISION, redistribution)
+                & Calibrater.shiftRatings(mPercentArray, size, index, -magnitude, PRECISION, redistribution);
+    }
+
+    @Benchmark public int shiftPassesArray(PassCounter counter) {
+        int index = nextIndex();
+        int passes = Math.max(0, Calibrater.shiftPasses(mPercentArray, size, index, magnitude, PRECISION, redistribution))
+                + Math.max(0, Calibrater.shiftPasses(mPercentArray, size, index, -magnitude, PRECISION, redistribution));
+        counter.passes += passes;
+        return passes;
+    }
+}
@@ -0,0 +1,82 @@
+package art.coded.calibrater;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Utility class for measuring the passes {@link Calibrater} needs to redistribute the offset of a shift.
+ * Passes multiply the cost of each shift by the size of the series, so their worst case
+ * should remain bounded as the series grows.
+ */
+public final class ShiftConvergence {
+
+    public static final int[] SIZES = { 2, 10, 100, 1000, 10000 };
+    public static final double[] MAGNITUDES = { .001d, .01d, .1d, 1d };
+
+    // Number of indices shifted in each series
+    private static final int SAMPLES = 16;
+
+    /**
+     * Distributions from which to begin shifting; the geometric series leaves a long tail
+     * of near-zero elements to be excluded as they reach the lower limit.
+     */
+    public enum Distribution { UNIFORM, LINEAR, GEOMETRIC }
+
+    /**
+     * Generates a {@code double} array of the specified size and distribution summing to the whole.
+     * @param distribution {@link Distribution} of the generated elements
+     * @param size number of elements to generate
+     * @return {@code double} array of proportionate elements
+     */
+    public static double[] generatePercents(Distribution distribution, int size) {
+        double[] percents = new double[size];
+        double sum = 0d;
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case LINEAR: percents[i] = i + 1; break;
+                case GEOMETRIC: percents[i] = Math.pow(.9d, i); break;
+                default: percents[i] = 1d;
+            } sum += percents[i];
+        }
+        for (int i = 0; i < size; i++) percents[i] /= sum;
+        return percents;
+    }
+
+    /**
+     * Retrieves the most passes needed to increment then decrement evenly spaced elements
+     * of each {@link Distribution} of the specified size.
+     * @param size number of elements in each series
+     * @param magnitude amount of each adjustment
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param redistribution {@link Calibrater.Redistribution} by which to offset the other elements
+     * @return the worst-case number of passes
+     */
+    public static int worstPasses(
+            int size, double magnitude, int precision, Calibrater.Redistribution redistribution) {
+        int worst = 0;
+        int step = Math.max(1, size / SAMPLES);
+        for (Distribution distribution : Distribution.values()) {
+            double[] percents = generatePercents(distribution, size);
+            for (int index = 0; index < size; index += step) {
+                worst = Math.max(worst, Calibrater.shiftPasses(percents, size, index, magnitude, precision, redistribution));
+                worst = Math.max(worst, Calibrater.shiftPasses(percents, size, index, -magnitude, precision, redistribution));
+            }
+        } return worst;
+    }
+
+    /**
+     * Prints the worst-case number of passes of each redistribution for each size and magnitude.
+     */
+    public static void main(String[] args) {
+        for (Calibrater.Redistribution redistribution : Calibrater.Redistribution.values()) {
+            System.out.println(redistribution + " worst-case passes by size for magnitudes " + Arrays.toString(MAGNITUDES));
+            for (int size : SIZES) {
+                StringBuilder builder = new StringBuilder(String.format(Locale.US, "%6d", size));
+                for (double magnitude : MAGNITUDES) {
+                    int passes = worstPasses(size, magnitude, Calibrater.STANDARD_PRECISION, redistribution);
+                    builder.append(String.format(Locale.US, "%8d", passes));
+                } System.out.println(builder);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package art.coded.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link TypeConverters} conversions between decimal array types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeConvertersBenchmark {
+
+    @Param({ "2", "10", "100", "1000", "10000" }) public int size;
+
+    private float[] mFloatArray;
+    private double[] mDoubleArray;
+    private double[] mDoubleBuffer;
+    private List<Float> mFloatList;
+    private List<Double> mDoubleList;
+
+    @Setup(Level.Trial) public void setUp() {
+        mDoubleArray = ShiftConvergence.generatePercents(ShiftConvergence.Distribution.LINEAR, size);
+        mDoubleBuffer = new double[size];
+        mDoubleList = TypeConverters.arrayDoubleToListDouble(mDoubleArray);
+        mFloatArray = TypeConverters.listDoubleToArrayFloat(mDoubleList);
+        mFloatList = TypeConverters.listDoubleToListFloat(mDoubleList);
+    }
+
+    @Benchmark public List<Double> arrayFloatToListDouble() {
+        return TypeConverters.arrayFloatToListDouble(mFloatArray);
+    }
+
+    @Benchmark public List<Double> listFloatToListDouble() {
+        return TypeConverters.listFloatToListDouble(mFloatList);
+    }
+
+    @Benchmark public List<Double> arrayDoubleToListDouble() {
+        return TypeConverters.arrayDoubleToListDouble(mDoubleArray);
+    }
+
+    @Benchmark public float[] listDoubleToArrayFloat() {
+        return TypeConverters.listDoubleToArrayFloat(mDoubleList);
+    }
+
+    @Benchmark public List<Float> listDoubleToListFloat() {
+        return TypeConverters.listDoubleToListFloat(mDoubleList);
+    }
+
+    @Benchmark public double[] listDoubleToArrayDouble() {
+        return TypeConverters.listDoubleToArrayDouble(mDoubleList);
+    }
+
+    @Benchmark public double[] copyListDoubleToArrayDouble() {
+        return TypeConverters.copyListDoubleToArrayDouble(mDoubleList, mDoubleBuffer);
+    }
+}
@@ -0,0 +1,44 @@
+package art.coded.calibrater;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link ShiftConvergence} class, guarding the cost of redistributing shifts
+ * from growing with the size of the series.
+ */
+public class ShiftConvergenceTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static int MAX_PASSES = 16;
+
+    /**
+     * Asserts whether the worst-case number of passes for every benchmarked size and magnitude
+     * remains within a bound independent of the size of the series.
+     */
+    @Test public final void testWorstPassesBounded() {
+
+        for (Calibrater.Redistribution redistribution : Calibrater.Redistribution.values()) {
+            for (int size : ShiftConvergence.SIZES) {
+                for (double magnitude : ShiftConvergence.MAGNITUDES) {
+                    int passes = ShiftConvergence.worstPasses(size, magnitude, PRECISION, redistribution);
+                    assertTrue(String.format("%d %s passes for size %d and magnitude %s",
+                            passes, redistribution, size, magnitude), passes <= MAX_PASSES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts whether each generated distribution is proportionate to the whole.
+     */
+    @Test public final void testGeneratedPercentsProportionate() {
+
+        for (ShiftConvergence.Distribution distribution : ShiftConvergence.Distribution.values()) {
+            double sum = 0d;
+            for (double percent : ShiftConvergence.generatePercents(distribution, 100)) sum += percent;
+            assertTrue(Math.abs(1d - sum) < Math.pow(10, -PRECISION));
+        }
+    }
+}
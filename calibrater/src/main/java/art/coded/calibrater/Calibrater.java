@@ -1,5 +1,6 @@
 package art.coded.calibrater;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -10,6 +11,15 @@ public final class Calibrater {
     public static final int STANDARD_PRECISION = 4;
     public static final double STANDARD_MAGNITUDE = .01d;
 
+    /**
+     * Strategies for redistributing the offset of a shift among the other elements.
+     * {@link #ITERATIVE} repeatedly allocates equal parts of the remaining offset until it falls
+     * within the allowed error, which can take several passes when many elements reach their limit.
+     * {@link #EXACT} sorts the other elements once by their distance from the limit and solves for
+     * the equal allocation in a single pass, at the cost of a sorting buffer.
+     */
+    public enum Redistribution { ITERATIVE, EXACT }
+
     /**
      * Increments or decrements an element of a {@code List} of {@link Double} by the specified
      * magnitude while calibrating other {@code List} of {@link Double} elements to maintain
@@ -21,57 +31,267 @@ public final class Calibrater {
      * @return true if percent was adjusted and false otherwise
      */
     public static boolean shiftRatings(List<Double> percents, int index, double magnitude, int precision) {
+        return shiftRatings(percents, index, magnitude, precision, Redistribution.ITERATIVE);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code List} of {@link Double} as specified by
+     * {@link #shiftRatings(List, int, double, int)} with the specified {@link Redistribution}.
+     * @param percents {@link Double} {@code List} elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param redistribution {@link Redistribution} by which to offset the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(
+            List<Double> percents, int index, double magnitude, int precision, Redistribution redistribution) {
+        double[] buffer = TypeConverters.listDoubleToArrayDouble(percents);
+        boolean result = shiftRatings(buffer, buffer.length, index, magnitude, precision, redistribution);
+        if (result) TypeConverters.copyArrayDoubleToListDouble(buffer, percents);
+        return result;
+    }
+
+    /**
+     * Increments or decrements an element of a {@code double} array by the specified
+     * magnitude while calibrating other {@code double} array elements to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * @param percents {@code double} array elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(double[] percents, int index, double magnitude, int precision) {
+        return shiftRatings(percents, percents.length, index, magnitude, precision);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code double} array buffer by the specified
+     * magnitude while calibrating the other elements up to the specified length to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * Elements at and beyond the specified length are left untouched and no objects are allocated,
+     * so the same buffer can be reused across adjustments to series of varying size.
+     * @param percents {@code double} array buffer with elements to be adjusted if not proportionate
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(double[] percents, int length, int index, double magnitude, int precision) {
+        return shiftPasses(percents, length, index, magnitude, precision, Redistribution.ITERATIVE) >= 0;
+    }
+
+    /**
+     * Increments or decrements an element of a {@code double} array buffer as specified by
+     * {@link #shiftRatings(double[], int, int, double, int)} with the specified {@link Redistribution}.
+     * Only {@link Redistribution#ITERATIVE} is free of allocations.
+     * @param percents {@code double} array buffer with elements to be adjusted if not proportionate
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param redistribution {@link Redistribution} by which to offset the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(
+            double[] percents, int length, int index, double magnitude, int precision, Redistribution redistribution) {
+        return shiftPasses(percents, length, index, magnitude, precision, redistribution) >= 0;
+    }
+
+    /**
+     * Increments or decrements an element of a {@code double} array buffer as specified by
+     * {@link #shiftRatings(double[], int, int, double, int)} while counting the passes over the
+     * series needed to expend the offset, which is exposed to the package for measuring convergence.
+     * @param percents {@code double} array buffer with elements to be adjusted if not proportionate
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param redistribution {@link Redistribution} by which to offset the other elements
+     * @return number of redistribution passes if percent was adjusted and -1 otherwise
+     */
+    static int shiftPasses(
+            double[] percents, int length, int index, double magnitude, int precision, Redistribution redistribution) {
 
         if (precision > 16 || precision < 0 || magnitude > 1d || magnitude < -1d) {
             throw new IllegalArgumentException("Parameter value is out of bounds");
         }
 
-        if (magnitude == 0 || percents.size() < 2) {
-            return false; // nothing to adjust
+        if (magnitude == 0 || length < 2) {
+            return -1; // nothing to adjust
         }
 
-        if ((percents.get(index) == 0d && magnitude < 0d)
-        || (percents.get(index) == 1d && magnitude > 0d)) {
-            return false; // percent outside adjustable limits
+        if ((percents[index] == 0d && magnitude < 0d)
+        || (percents[index] == 1d && magnitude > 0d)) {
+            return -1; // percent outside adjustable limits
         }
 
-        percents.set(index, percents.get(index) + magnitude);
-        if (percents.get(index) >= 1d) { // adjusted percent is whole so rest must be zero
-            percents.set(index, 1d);
-            for (int i = 0; i < percents.size(); i++) if (index != i) percents.set(i, 0d);
+        int passes = 0;
+        percents[index] += magnitude;
+        if (percents[index] >= 1d) { // adjusted percent is whole so rest must be zero
+            percents[index] = 1d;
+            for (int i = 0; i < length; i++) if (index != i) percents[i] = 0d;
         } else {
 
             magnitude *= -1;
-            if (percents.get(index) <= 0d) {
-                magnitude += percents.get(index); // restore unallocated offset
-                percents.set(index, 0d); // set to limit
+            if (percents[index] <= 0d) {
+                magnitude += percents[index]; // restore unallocated offset
+                percents[index] = 0d; // set to limit
+            }
+
+            if (redistribution == Redistribution.EXACT) {
+                fillRatings(percents, length, index, null, magnitude);
+                return 1;
             }
 
             int excluded = 1; // prevent further allocation after maxing out all elements
             double limit = magnitude < 0d ? 0d : 1d; // limit approached by offset percents
             double error = Math.pow(10, -precision);
 
-            while (Math.abs(magnitude) >= Math.abs(error) && excluded <= percents.size()) { // offset expended or exclusions maxed
-                double allocation = (magnitude / (percents.size() - excluded)); // factor in exclusions on iterations
-                for (int i = 0; i < percents.size(); i++) {
-                    if (i != index && (percents.get(i) != 0d || magnitude > 0d)) { // ignore adjusted and exclude only once
-                        percents.set(i, percents.get(i) + allocation);
+            while (Math.abs(magnitude) >= Math.abs(error) && excluded <= length) { // offset expended or exclusions maxed
+                passes++;
+                double allocation = (magnitude / (length - excluded)); // factor in exclusions on iterations
+                for (int i = 0; i < length; i++) {
+                    if (i != index && (percents[i] != 0d || magnitude > 0d)) { // ignore adjusted and exclude only once
+                        percents[i] += allocation;
                         magnitude -= allocation; // expend allocated for recalculating offset on iterations
-                        if (percents.get(i) + error  < limit * -1) { // below limit within margin of error
-                            if (percents.get(i) < 0d) magnitude += percents.get(i); // restore unallocated offset
-                            percents.set(i, limit); // set to limit
+                        if (percents[i] + error  < limit * -1) { // below limit within margin of error
+                            if (percents[i] < 0d) magnitude += percents[i]; // restore unallocated offset
+                            percents[i] = limit; // set to limit
                             excluded++; // decrease offset divisor for fewer allocations
                         }
-                    } else if (percents.get(i) < 0) {
-                        percents.set(i, 0d);
-                        magnitude += percents.get(i);
+                    } else if (percents[i] < 0) {
+                        percents[i] = 0d;
+                        magnitude += percents[i];
                     }
                 }
             }
 
+        } return passes;
+    }
+
+    /**
+     * Increments or decrements several elements of a {@code double} array at once, coalescing the
+     * magnitudes specified for the same index, then calibrates the other elements in a single
+     * redistribution to maintain proportionality to the whole within the range of the specified precision.
+     * @param percents {@code double} array elements to be adjusted if not proportionate
+     * @param indices indices of the array elements to be adjusted, each paired with a magnitude
+     * @param magnitudes amounts of the adjustments; non-zero values should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return true if any non-zero magnitude was applied and false otherwise
+     */
+    public static boolean applyShifts(double[] percents, int[] indices, double[] magnitudes, int precision) {
+        if (indices.length != magnitudes.length) {
+            throw new IllegalArgumentException("Parameter lengths do not match");
+        } return applyShifts(percents, percents.length, indices, magnitudes, indices.length, precision);
+    }
+
+    /**
+     * Increments or decrements several elements of a {@code double} array buffer as specified by
+     * {@link #applyShifts(double[], int[], double[], int)}, reading only the specified number of
+     * leading adjustments and calibrating only the elements up to the specified length.
+     * Edited elements are set to their coalesced values and the offset is spread over the rest as by
+     * {@link Redistribution#EXACT}; if the rest cannot absorb it, the series is normalized once.
+     * @param percents {@code double} array buffer with elements to be adjusted if not proportionate
+     * @param length number of leading buffer elements belonging to the series
+     * @param indices indices of the array elements to be adjusted, each paired with a magnitude
+     * @param magnitudes amounts of the adjustments; non-zero values should be no more than 1 or -1
+     * @param count number of leading index and magnitude pairs to be applied
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return true if any non-zero magnitude was applied and false otherwise
+     */
+    public static boolean applyShifts(
+            double[] percents, int length, int[] indices, double[] magnitudes, int count, int precision) {
+
+        if (precision > 16 || precision < 0) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+        for (int k = 0; k < count; k++) {
+            if (magnitudes[k] > 1d || magnitudes[k] < -1d) {
+                throw new IllegalArgumentException("Parameter value is out of bounds");
+            }
+        }
+
+        if (length < 2) return false; // nothing to adjust
+
+        boolean[] edited = new boolean[length];
+        boolean adjusted = false;
+        double offset = 0d; // sum of edited elements before less after adjustment
+        for (int k = 0; k < count; k++) {
+            if (magnitudes[k] == 0d) continue;
+            int index = indices[k];
+            if (!edited[index]) { // record the value before the first adjustment
+                edited[index] = true;
+                offset += percents[index];
+            }
+            percents[index] += magnitudes[k];
+            adjusted = true;
+        }
+
+        if (!adjusted) return false;
+
+        for (int i = 0; i < length; i++) {
+            if (!edited[i]) continue;
+            if (percents[i] > 1d) percents[i] = 1d; // set to limit
+            else if (percents[i] < 0d) percents[i] = 0d;
+            offset -= percents[i];
+        }
+
+        if (offset != 0d) fillRatings(percents, length, -1, edited, offset);
+
+        double sum = 0d;
+        for (int i = 0; i < length; i++) sum += percents[i];
+        double error = Math.pow(10, -precision);
+        if (sum > 1d + error || sum < 1d - error) { // rest could not absorb the offset
+            if (sum == 0d) resetRatings(percents, length, true, precision);
+            else for (int i = 0; i < length; i++) percents[i] /= sum;
         } return true;
     }
 
+    /**
+     * Offsets every {@code double} array buffer element other than the adjusted ones by an equal
+     * allocation, setting to the limit those elements too close to it to absorb their allocation.
+     * The allocation is solved exactly by sorting the distances from the limit and expending
+     * the smallest in ascending order until the remaining offset can be split among the rest.
+     * @param percents {@code double} array buffer with elements to be offset
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of an adjusted element to be left untouched; negative if none
+     * @param fixed flags for adjusted elements to be left untouched; null if none
+     * @param offset amount to be distributed; positive to raise and negative to lower other elements
+     */
+    private static void fillRatings(
+            double[] percents, int length, int index, boolean[] fixed, double offset) {
+
+        boolean raising = offset > 0d;
+        double[] headrooms = new double[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == index || (fixed != null && fixed[i])) continue;
+            headrooms[count++] = raising ? 1d - percents[i] : percents[i];
+        } Arrays.sort(headrooms, 0, count);
+
+        double remaining = Math.abs(offset);
+        double allocation = Double.POSITIVE_INFINITY; // every element reaches limit if never assigned
+        for (int j = 0; j < headrooms.length && count > 0; j++) {
+            double headroom = headrooms[j];
+            if (headroom * count >= remaining) { // rest can absorb an equal share of the remaining offset
+                allocation = remaining / count;
+                break;
+            }
+            remaining -= headroom; // element reaches limit so expend only its headroom
+            count--;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (i == index || (fixed != null && fixed[i])) continue;
+            double headroom = raising ? 1d - percents[i] : percents[i];
+            if (headroom <= allocation) percents[i] = raising ? 1d : 0d; // set to limit
+            else percents[i] += raising ? allocation : -allocation;
+        }
+    }
+
     /**
      * Assigns equivalent percents to each {@code List} of {@code Double} element.
      * @param percents {@code List} of {@code Double} elements to be reset if not equivalent
@@ -80,11 +300,37 @@ public final class Calibrater {
      * @return true if values were adjusted; false otherwise
      */
     public static boolean resetRatings(List<Double> percents, boolean forceReset, int precision) {
+        double[] buffer = TypeConverters.listDoubleToArrayDouble(percents);
+        boolean result = resetRatings(buffer, buffer.length, forceReset, precision);
+        if (result) TypeConverters.copyArrayDoubleToListDouble(buffer, percents);
+        return result;
+    }
+
+    /**
+     * Assigns equivalent percents to each {@code double} array element.
+     * @param percents {@code double} array elements to be reset if not equivalent
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean resetRatings(double[] percents, boolean forceReset, int precision) {
+        return resetRatings(percents, percents.length, forceReset, precision);
+    }
+
+    /**
+     * Assigns equivalent percents to each {@code double} array buffer element up to the specified length.
+     * @param percents {@code double} array buffer with elements to be reset if not equivalent
+     * @param length number of leading buffer elements belonging to the series
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean resetRatings(double[] percents, int length, boolean forceReset, int precision) {
         double sum = 0d;
-        for (double percent : percents) sum += percent;
+        for (int i = 0; i < length; i++) sum += percents[i];
         double error = Math.pow(10, -precision);
         if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
-            for (int i = 0; i < percents.size(); i++) percents.set(i, 1d / percents.size());
+            for (int i = 0; i < length; i++) percents[i] = 1d / length;
             return true;
         } else return false;
     }
@@ -103,6 +349,23 @@ public final class Calibrater {
         return recalibrateRatings(percents, false, precision);
     }
 
+    /**
+     * Removes the element at the specified index from a {@code double} array buffer by moving
+     * each following element up to the specified length back by one position.
+     * The whole is then distributed among the remaining {@code length - 1} elements
+     * in accordance with {@link #recalibrateRatings(double[], int, boolean, int)}.
+     * @param percents {@code double} array buffer from which to remove the specified element
+     * @param length number of leading buffer elements belonging to the series before removal
+     * @param index location of the element to be removed
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean removeRating(double[] percents, int length, int index, int precision) {
+        System.arraycopy(percents, index + 1, percents, index, length - index - 1);
+        percents[length - 1] = 0d;
+        return recalibrateRatings(percents, length - 1, false, precision);
+    }
+
     /**
      * Equally distributes to each {@code List} of {@code Double} element the difference between
      * the whole and the sum of all array elements.
@@ -112,17 +375,45 @@ public final class Calibrater {
      * @return true if values were adjusted; false otherwise
      */
     public static boolean recalibrateRatings(List<Double> percents, boolean forceReset, int precision) {
+        double[] buffer = TypeConverters.listDoubleToArrayDouble(percents);
+        boolean result = recalibrateRatings(buffer, buffer.length, forceReset, precision);
+        if (result) TypeConverters.copyArrayDoubleToListDouble(buffer, percents);
+        return result;
+    }
+
+    /**
+     * Equally distributes to each {@code double} array element the difference between
+     * the whole and the sum of all array elements.
+     * @param percents {@code double} array to be calibrated closer to the whole
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(double[] percents, boolean forceReset, int precision) {
+        return recalibrateRatings(percents, percents.length, forceReset, precision);
+    }
+
+    /**
+     * Equally distributes to each {@code double} array buffer element up to the specified length
+     * the difference between the whole and the sum of those elements.
+     * @param percents {@code double} array buffer to be calibrated closer to the whole
+     * @param length number of leading buffer elements belonging to the series
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(double[] percents, int length, boolean forceReset, int precision) {
         double sum = 0d;
-        for (double percent : percents) sum += percent;
-        double difference = (1d - sum) / percents.size();
+        for (int i = 0; i < length; i++) sum += percents[i];
+        double difference = (1d - sum) / length;
         double error = Math.pow(10, -precision);
         if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
-            for (int i = 0; i < percents.size(); i++) {
-                percents.set(i, percents.get(i) + difference);
-                if (percents.get(i) > 1d) percents.set(i, 1d);
-                else if (percents.get(i) < 0d) percents.set(i, 0d);
+            for (int i = 0; i < length; i++) {
+                percents[i] += difference;
+                if (percents[i] > 1d) percents[i] = 1d;
+                else if (percents[i] < 0d) percents[i] = 0d;
             }
             return true;
         } return false;
     }
-}
\ No newline at end of file
+}
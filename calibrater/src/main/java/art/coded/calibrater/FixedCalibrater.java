@@ -0,0 +1,209 @@
+package art.coded.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for adjusting and calibrating percent arrays in fixed-point units.
+ * Each percent is stored as a {@code long} count of millionths of the whole so that adjustments
+ * are exact, always sum to {@link #WHOLE} and produce the same result on every device.
+ */
+public final class FixedCalibrater {
+
+    public static final long WHOLE = 1000000L;
+    public static final long STANDARD_MAGNITUDE = toUnits(Calibrater.STANDARD_MAGNITUDE);
+
+    /**
+     * Converts a {@code double} percent to the nearest fixed-point units.
+     * @param percent value to be converted
+     * @return nearest number of units
+     */
+    public static long toUnits(double percent) {
+        return Math.round(percent * WHOLE);
+    }
+
+    /**
+     * Converts fixed-point units to a {@code double} percent.
+     * Converting the result back with {@link #toUnits(double)} restores the same units.
+     * @param units value to be converted
+     * @return equivalent percent
+     */
+    public static double toPercent(long units) {
+        return units / (double) WHOLE;
+    }
+
+    /**
+     * Generates fixed-point units from a {@code double} array, rounding each element
+     * and then calibrating the units to sum exactly to the whole.
+     * @param percents {@code double} array elements to be converted
+     * @return {@code long} array of units summing to {@link #WHOLE}
+     */
+    public static long[] arrayDoubleToArrayUnits(double[] percents) {
+        long[] units = new long[percents.length];
+        for (int i = 0; i < percents.length; i++) units[i] = Math.max(0L, Math.min(WHOLE, toUnits(percents[i])));
+        recalibrateRatings(units);
+        return units;
+    }
+
+    /**
+     * Copies fixed-point units into the leading elements of a {@code double} array buffer.
+     * @param units {@code long} array elements to be converted
+     * @param percents {@code double} array buffer at least as long as the units
+     */
+    public static void copyArrayUnitsToArrayDouble(long[] units, double[] percents) {
+        for (int i = 0; i < units.length; i++) percents[i] = toPercent(units[i]);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code long} array by the specified
+     * magnitude while calibrating other {@code long} array elements to sum exactly to the whole.
+     * @param units {@code long} array elements to be adjusted
+     * @param index index of the array element to be adjusted
+     * @param magnitude units of the adjustment; non-zero value should be no more than {@link #WHOLE} either way
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(long[] units, int index, long magnitude) {
+        return shiftRatings(units, units.length, index, magnitude);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code long} array buffer as specified by
+     * {@link #shiftRatings(long[], int, long)}, calibrating only the elements up to the specified length.
+     * The offset is divided equally among the other elements, with those too close to the limit set to it
+     * and any indivisible units assigned one apiece to the lowest eligible indices.
+     * @param units {@code long} array buffer with elements to be adjusted
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of the array element to be adjusted
+     * @param magnitude units of the adjustment; non-zero value should be no more than {@link #WHOLE} either way
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(long[] units, int length, int index, long magnitude) {
+
+        if (magnitude > WHOLE || magnitude < -WHOLE) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+
+        if (magnitude == 0L || length < 2) {
+            return false; // nothing to adjust
+        }
+
+        if ((units[index] == 0L && magnitude < 0L)
+        || (units[index] == WHOLE && magnitude > 0L)) {
+            return false; // percent outside adjustable limits
+        }
+
+        long adjusted = Math.max(0L, Math.min(WHOLE, units[index] + magnitude));
+        long offset = units[index] - adjusted; // amount by which to raise the other elements
+        units[index] = adjusted;
+        fillRatings(units, length, index, offset);
+        return true;
+    }
+
+    /**
+     * Assigns equivalent units to each {@code long} array element, assigning any indivisible
+     * units one apiece to the lowest indices.
+     * @param units {@code long} array elements to be reset
+     */
+    public static void resetRatings(long[] units) {
+        resetRatings(units, units.length);
+    }
+
+    /**
+     * Assigns equivalent units to each {@code long} array buffer element up to the specified length
+     * as specified by {@link #resetRatings(long[])}.
+     * @param units {@code long} array buffer with elements to be reset
+     * @param length number of leading buffer elements belonging to the series
+     */
+    public static void resetRatings(long[] units, int length) {
+        if (length == 0) return;
+        long share = WHOLE / length;
+        long remainder = WHOLE % length;
+        for (int i = 0; i < length; i++) units[i] = share + (i < remainder ? 1L : 0L);
+    }
+
+    /**
+     * Removes the element at the specified index from a {@code long} array buffer by moving
+     * each following element up to the specified length back by one position.
+     * The whole is then distributed among the remaining {@code length - 1} elements
+     * in accordance with {@link #recalibrateRatings(long[], int)}.
+     * @param units {@code long} array buffer from which to remove the specified element
+     * @param length number of leading buffer elements belonging to the series before removal
+     * @param index location of the element to be removed
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean removeRating(long[] units, int length, int index) {
+        System.arraycopy(units, index + 1, units, index, length - index - 1);
+        units[length - 1] = 0L;
+        return recalibrateRatings(units, length - 1);
+    }
+
+    /**
+     * Equally distributes to each {@code long} array element the difference between
+     * the whole and the sum of all array elements.
+     * @param units {@code long} array to be calibrated to the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(long[] units) {
+        return recalibrateRatings(units, units.length);
+    }
+
+    /**
+     * Equally distributes to each {@code long} array buffer element up to the specified length
+     * the difference between the whole and the sum of those elements.
+     * @param units {@code long} array buffer to be calibrated to the whole
+     * @param length number of leading buffer elements belonging to the series
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(long[] units, int length) {
+        long sum = 0L;
+        for (int i = 0; i < length; i++) sum += units[i];
+        if (sum == WHOLE || length == 0) return false;
+        fillRatings(units, length, -1, WHOLE - sum);
+        return true;
+    }
+
+    /**
+     * Offsets every {@code long} array buffer element other than the adjusted one by an equal
+     * allocation, setting to the limit those elements too close to it to absorb their allocation.
+     * The allocation is solved by sorting the distances from the limit and expending the smallest
+     * in ascending order until the remaining offset can be split among the rest.
+     * @param units {@code long} array buffer with elements to be offset
+     * @param length number of leading buffer elements belonging to the series
+     * @param index index of the adjusted element to be left untouched; negative if none
+     * @param offset units to be distributed; positive to raise and negative to lower other elements
+     */
+    private static void fillRatings(long[] units, int length, int index, long offset) {
+
+        if (offset == 0L) return;
+        boolean raising = offset > 0L;
+        long[] headrooms = new long[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (i != index) headrooms[count++] = raising ? WHOLE - units[i] : units[i];
+        } Arrays.sort(headrooms, 0, count);
+
+        long remaining = Math.abs(offset);
+        long allocation = Long.MAX_VALUE; // every element reaches limit if never assigned
+        long indivisible = 0L;
+        for (int j = 0; count > 0; j++) {
+            if (headrooms[j] * count >= remaining) { // rest can absorb an equal share of the remaining offset
+                allocation = remaining / count;
+                indivisible = remaining % count;
+                break;
+            }
+            remaining -= headrooms[j]; // element reaches limit so expend only its headroom
+            count--;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (i == index) continue;
+            long headroom = raising ? WHOLE - units[i] : units[i];
+            long shift;
+            if (headroom <= allocation) shift = headroom; // set to limit
+            else if (indivisible > 0L) {
+                shift = allocation + 1L;
+                indivisible--;
+            } else shift = allocation;
+            units[i] += raising ? shift : -shift;
+        }
+    }
+}
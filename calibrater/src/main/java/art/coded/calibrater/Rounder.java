@@ -0,0 +1,70 @@
+package art.coded.calibrater;
+
+/**
+ * Utility class for rounding decimal values to a fixed number of places without
+ * formatting or parsing strings.
+ */
+public final class Rounder {
+
+    public static final int CENTS = 2;
+
+    // Powers of ten indexed by exponent, sized to the places a double can distinguish
+    private static final double[] POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    // Relative distance within which a scaled value is taken to be the whole number it approximates
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Modes of rounding to the specified number of places.
+     * {@link #FLOOR} truncates toward negative infinity, {@link #HALF_EVEN} rounds to the nearest
+     * value with ties toward the even neighbor and {@link #NONE} leaves the value unrounded.
+     */
+    public enum Mode { FLOOR, HALF_EVEN, NONE }
+
+    /**
+     * Rounds a value to the specified number of decimal places.
+     * Values within floating point error of a boundary are treated as lying on it,
+     * so that {@code 0.29} is not floored to {@code 0.28} for being stored as {@code 0.28999...}.
+     * @param value amount to be rounded
+     * @param places number of decimal places to be kept; no more than 15
+     * @param mode {@link Mode} by which to round
+     * @return rounded amount
+     */
+    public static double round(double value, int places, Mode mode) {
+        if (places < 0 || places >= POWERS.length) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+        if (mode == Mode.NONE || Double.isNaN(value) || Double.isInfinite(value)) return value;
+        return toScaled(value, places, mode) / POWERS[places];
+    }
+
+    /**
+     * Rounds a value to cents as specified by {@link #round(double, int, Mode)}.
+     * @param value amount to be rounded
+     * @param mode {@link Mode} by which to round
+     * @return amount rounded to two decimal places
+     */
+    public static double roundCents(double value, Mode mode) {
+        return round(value, CENTS, mode);
+    }
+
+    /**
+     * Scales a value by the specified number of decimal places and rounds it to a whole number
+     * as specified by {@link #round(double, int, Mode)}; {@link Mode#NONE} rounds as {@link Mode#HALF_EVEN}.
+     * @param value amount to be scaled
+     * @param places number of decimal places by which to scale; no more than 15
+     * @param mode {@link Mode} by which to round
+     * @return whole number of units of the last decimal place
+     */
+    public static long toScaled(double value, int places, Mode mode) {
+        if (places < 0 || places >= POWERS.length) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+        double scaled = value * POWERS[places];
+        double nearest = Math.rint(scaled); // rounds ties to even
+        if (Math.abs(scaled - nearest) <= TOLERANCE * Math.max(1d, Math.abs(scaled))) return (long) nearest;
+        return (long) (mode == Mode.FLOOR ? Math.floor(scaled) : nearest);
+    }
+}
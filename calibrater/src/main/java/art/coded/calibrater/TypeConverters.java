@@ -59,9 +59,29 @@ public final class TypeConverters {
      * Generates a {@code List} of {@code double} from a {@code List} of {@code Double}.
      */
     public static double[] listDoubleToArrayDouble(List<Double> doubleList) {
-        Double[] doubleBoxedArray = doubleList.toArray(new Double[0]);
-        double[] doublePrimativeArray = new double[doubleBoxedArray.length];
-        for (int i = 0; i < doubleBoxedArray.length; i++) doublePrimativeArray[i] = doubleBoxedArray[i];
+        double[] doublePrimativeArray = new double[doubleList.size()];
+        for (int i = 0; i < doublePrimativeArray.length; i++) doublePrimativeArray[i] = doubleList.get(i);
         return doublePrimativeArray;
     }
+
+    /**
+     * Copies a {@code double} array into an existing {@code List} of {@code Double} of the same size,
+     * boxing only those elements whose values differ.
+     */
+    public static void copyArrayDoubleToListDouble(double[] doubleArray, List<Double> doubleList) {
+        for (int i = 0; i < doubleList.size(); i++) {
+            if (doubleList.get(i) != doubleArray[i]) doubleList.set(i, doubleArray[i]);
+        }
+    }
+
+    /**
+     * Copies a {@code List} of {@code Double} into the leading elements of a {@code double} array buffer,
+     * generating a larger buffer only if the existing one cannot hold every element.
+     * @return the buffer holding the copied elements
+     */
+    public static double[] copyListDoubleToArrayDouble(List<Double> doubleList, double[] doubleArray) {
+        if (doubleArray == null || doubleArray.length < doubleList.size()) doubleArray = new double[doubleList.size()];
+        for (int i = 0; i < doubleList.size(); i++) doubleArray[i] = doubleList.get(i);
+        return doubleArray;
+    }
 }
@@ -186,6 +186,150 @@ public class CalibraterTest {
         assertTrue(Calibrater.shiftRatings(percents, 0, 0.02d, PRECISION));
     }
 
+    /**
+     * Asserts whether shifting a {@code double} array assigns the same value to each element
+     * as shifting the equivalent {@code List} of {@code Double}.
+     */
+    @Test public final void testShiftPrimitiveArrayMatchesList() {
+
+        List<Double> percentList = Arrays.asList(.25d, .25d, .25d, .25d);
+        double[] percentArray = { .25d, .25d, .25d, .25d };
+        for (double magnitude = 0.01d; magnitude <= .1d; magnitude += 0.01d) {
+            for (int index = 0; index < percentArray.length; index++) {
+                double sign = index % 2 == 0 ? 1d : -1d;
+                assertEquals(
+                        Calibrater.shiftRatings(percentList, index, magnitude * sign, PRECISION),
+                        Calibrater.shiftRatings(percentArray, index, magnitude * sign, PRECISION));
+                for (int i = 0; i < percentArray.length; i++) assertEquals(percentList.get(i), percentArray[i], 0d);
+            }
+        }
+    }
+
+    /**
+     * Asserts whether shifting, recalibrating and removing from a {@code double} array buffer
+     * leaves the elements beyond the specified length untouched.
+     */
+    @Test public final void testShiftPrimitiveBufferIgnoresTail() {
+
+        double[] buffer = { .5d, .5d, 0d, -1d, -1d };
+        assertTrue(Calibrater.shiftRatings(buffer, 3, 2, .3d, PRECISION));
+        assertEquals(-1d, buffer[3], 0d);
+        assertEquals(-1d, buffer[4], 0d);
+        assertEquals(1d, buffer[0] + buffer[1] + buffer[2], ERROR);
+
+        assertTrue(Calibrater.removeRating(buffer, 3, 0, PRECISION));
+        assertEquals(0d, buffer[2], 0d);
+        assertEquals(-1d, buffer[3], 0d);
+        assertEquals(1d, buffer[0] + buffer[1], ERROR);
+
+        assertTrue(Calibrater.resetRatings(buffer, 2, true, PRECISION));
+        assertEquals(.5d, buffer[0], 0d);
+        assertEquals(.5d, buffer[1], 0d);
+        assertEquals(-1d, buffer[4], 0d);
+    }
+
+    /**
+     * Asserts whether shifting with {@link Calibrater.Redistribution#EXACT} sets elements too close
+     * to the limit to absorb an equal allocation to the limit and divides the rest of the offset
+     * equally among the remaining elements.
+     */
+    @Test public final void testShiftExactWaterFill() {
+
+        double[] percents = { .5d, .3d, .15d, .04d, .01d };
+        assertTrue(Calibrater.shiftRatings(
+                percents, percents.length, 0, .2d, PRECISION, Calibrater.Redistribution.EXACT));
+        assertEquals(.7d, percents[0], 1e-12);
+        assertEquals(.225d, percents[1], 1e-12);
+        assertEquals(.075d, percents[2], 1e-12);
+        assertEquals(0d, percents[3], 0d);
+        assertEquals(0d, percents[4], 0d);
+
+        assertTrue(Calibrater.shiftRatings(
+                percents, percents.length, 0, -.4d, PRECISION, Calibrater.Redistribution.EXACT));
+        assertEquals(.3d, percents[0], 1e-12);
+        assertEquals(.325d, percents[1], 1e-12);
+        assertEquals(.175d, percents[2], 1e-12);
+        assertEquals(.1d, percents[3], 1e-12);
+        assertEquals(.1d, percents[4], 1e-12);
+    }
+
+    /**
+     * Asserts whether shifting with {@link Calibrater.Redistribution#EXACT} keeps the sum of a
+     * {@code List} of {@code Double} whole and agrees with {@link Calibrater.Redistribution#ITERATIVE}
+     * within the margin of error.
+     */
+    @Test public final void testShiftExactMatchesIterative() {
+
+        List<Double> iterative = Arrays.asList(.4d, .3d, .2d, .06d, .03d, .01d);
+        List<Double> exact = new ArrayList<>(iterative);
+        for (double magnitude = 0.01d; magnitude <= .1d; magnitude += 0.01d) {
+            for (int index = 0; index < exact.size(); index++) {
+                double sign = index % 2 == 0 ? 1d : -1d;
+                Calibrater.shiftRatings(iterative, index, magnitude * sign, PRECISION, Calibrater.Redistribution.ITERATIVE);
+                Calibrater.shiftRatings(exact, index, magnitude * sign, PRECISION, Calibrater.Redistribution.EXACT);
+                double sum = 0d;
+                for (int i = 0; i < exact.size(); i++) {
+                    assertEquals(iterative.get(i), exact.get(i), ERROR * exact.size());
+                    sum += exact.get(i);
+                } assertEquals(1d, sum, ERROR);
+            }
+        }
+    }
+
+    /**
+     * Asserts whether applying several shifts at once coalesces the magnitudes for each index
+     * and offsets only the elements that were not adjusted.
+     */
+    @Test public final void testApplyShiftsCoalesced() {
+
+        double[] percents = { .25d, .25d, .25d, .25d };
+        assertTrue(Calibrater.applyShifts(
+                percents, new int[] { 0, 1, 0 }, new double[] { .1d, .05d, .05d }, PRECISION));
+        assertEquals(.4d, percents[0], 1e-12);
+        assertEquals(.3d, percents[1], 1e-12);
+        assertEquals(.15d, percents[2], 1e-12);
+        assertEquals(.15d, percents[3], 1e-12);
+    }
+
+    /**
+     * Asserts whether applying shifts that the other elements cannot offset normalizes
+     * the adjusted elements to the whole.
+     */
+    @Test public final void testApplyShiftsNormalized() {
+
+        double[] percents = { .25d, .25d, .25d, .25d };
+        assertTrue(Calibrater.applyShifts(
+                percents, new int[] { 0, 1 }, new double[] { .8d, .8d }, PRECISION));
+        assertEquals(.5d, percents[0], 1e-12);
+        assertEquals(.5d, percents[1], 1e-12);
+        assertEquals(0d, percents[2], 0d);
+        assertEquals(0d, percents[3], 0d);
+
+        assertTrue(Calibrater.applyShifts(
+                percents, new int[] { 0, 1, 2, 3 }, new double[] { -.5d, -.5d, .2d, .3d }, PRECISION));
+        assertEquals(0d, percents[0], 0d);
+        assertEquals(0d, percents[1], 0d);
+        assertEquals(.4d, percents[2], 1e-12);
+        assertEquals(.6d, percents[3], 1e-12);
+    }
+
+    /**
+     * Asserts whether applying shifts returns the expected boolean value and throws the expected
+     * exception for mismatched parameters.
+     */
+    @Test public final void testApplyShiftsReturnValue() {
+
+        double[] percents = { .5d, .5d };
+        assertFalse(Calibrater.applyShifts(percents, new int[] { 0 }, new double[] { 0d }, PRECISION));
+        assertFalse(Calibrater.applyShifts(percents, new int[0], new double[0], PRECISION));
+        assertEquals(.5d, percents[0], 0d);
+
+        try {
+            Calibrater.applyShifts(percents, new int[] { 0, 1 }, new double[] { .1d }, PRECISION);
+            fail(); // Exception not thrown
+        } catch (IllegalArgumentException e) { assertEquals(.5d, percents[0], 0d); }
+    }
+
     /**
      * Asserts whether resetting a {@code List} of {@code Double} assigns the expected value to each array element
      * and results in the expected sum of all elements.
@@ -0,0 +1,116 @@
+package art.coded.calibrater;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test methods for the {@link FixedCalibrater} class.
+ * Equals assertions are exact as fixed-point units leave no margin of error.
+ */
+public class FixedCalibraterTest {
+
+    private static long WHOLE = FixedCalibrater.WHOLE;
+
+    /**
+     * Asserts whether incrementing and decrementing through the range of possible values
+     * keeps the sum of all {@code long} array elements exactly whole.
+     */
+    @Test public final void testShiftUnitsRepeatRangeExactSum() {
+
+        long[] units = new long[7];
+        FixedCalibrater.resetRatings(units);
+        for (long magnitude = 3L; magnitude <= 100003L; magnitude += 10000L) {
+            for (int index = 0; index < units.length; index++) {
+                while (units[index] < WHOLE) {
+                    FixedCalibrater.shiftRatings(units, index, magnitude);
+                    assertEquals(WHOLE, sum(units));
+                }
+                while (units[index] > 0L) {
+                    FixedCalibrater.shiftRatings(units, index, -magnitude);
+                    assertEquals(WHOLE, sum(units));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts whether shifting sets elements too close to the limit to absorb an equal allocation
+     * to the limit and assigns indivisible units to the lowest eligible indices.
+     */
+    @Test public final void testShiftUnitsWaterFill() {
+
+        long[] units = { 500000L, 300000L, 150000L, 40000L, 10000L };
+        assertTrue(FixedCalibrater.shiftRatings(units, 0, 200000L));
+        assertArrayEquals(new long[] { 700000L, 225000L, 75000L, 0L, 0L }, units);
+
+        assertTrue(FixedCalibrater.shiftRatings(units, 4, 1L));
+        assertArrayEquals(new long[] { 699999L, 225000L, 75000L, 0L, 1L }, units);
+
+        assertTrue(FixedCalibrater.shiftRatings(units, 0, -4L));
+        assertArrayEquals(new long[] { 699995L, 225001L, 75001L, 1L, 2L }, units);
+    }
+
+    /**
+     * Asserts whether shifting returns the expected boolean value and throws the expected
+     * exception for magnitudes out of bounds.
+     */
+    @Test public final void testShiftUnitsReturnValue() {
+
+        long[] units = { WHOLE, 0L, 0L };
+        assertFalse(FixedCalibrater.shiftRatings(units, 0, 1L));
+        assertFalse(FixedCalibrater.shiftRatings(units, 1, -1L));
+        assertFalse(FixedCalibrater.shiftRatings(units, 1, 0L));
+        assertTrue(FixedCalibrater.shiftRatings(units, 1, WHOLE));
+        assertArrayEquals(new long[] { 0L, WHOLE, 0L }, units);
+
+        try {
+            FixedCalibrater.shiftRatings(units, 0, WHOLE + 1L);
+            fail(); // Exception not thrown
+        } catch (IllegalArgumentException e) { assertEquals(WHOLE, units[1]); }
+    }
+
+    /**
+     * Asserts whether resetting, recalibrating and removing assign units that sum exactly to the whole.
+     */
+    @Test public final void testResetRecalibrateRemoveExactSum() {
+
+        long[] units = new long[3];
+        FixedCalibrater.resetRatings(units);
+        assertArrayEquals(new long[] { 333334L, 333333L, 333333L }, units);
+
+        assertTrue(FixedCalibrater.removeRating(units, 3, 1));
+        assertArrayEquals(new long[] { 500001L, 499999L, 0L }, units);
+        assertFalse(FixedCalibrater.recalibrateRatings(units, 2));
+
+        units = new long[] { 900000L, 300000L, 0L };
+        assertTrue(FixedCalibrater.recalibrateRatings(units));
+        assertArrayEquals(new long[] { 800000L, 200000L, 0L }, units);
+        assertEquals(WHOLE, sum(units));
+    }
+
+    /**
+     * Asserts whether converting between {@code double} percents and units sums exactly to the
+     * whole and restores the same units after a round trip.
+     */
+    @Test public final void testConvertUnitsRoundTrip() {
+
+        double[] percents = { 1d / 3d, 1d / 3d, 1d / 3d };
+        long[] units = FixedCalibrater.arrayDoubleToArrayUnits(percents);
+        assertEquals(WHOLE, sum(units));
+
+        FixedCalibrater.copyArrayUnitsToArrayDouble(units, percents);
+        assertArrayEquals(units, FixedCalibrater.arrayDoubleToArrayUnits(percents));
+        for (int i = 0; i < units.length; i++) assertEquals(units[i], FixedCalibrater.toUnits(percents[i]));
+    }
+
+    private static long sum(long[] units) {
+        long sum = 0L;
+        for (long unit : units) sum += unit;
+        return sum;
+    }
+}
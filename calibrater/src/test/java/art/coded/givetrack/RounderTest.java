@@ -0,0 +1,55 @@
+package art.coded.calibrater;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test methods for the {@link Rounder} class.
+ */
+public class RounderTest {
+
+    /**
+     * Asserts whether flooring to cents truncates fractions of a cent without losing cents
+     * to floating point error.
+     */
+    @Test public final void testRoundCentsFloor() {
+
+        assertEquals(.29d, Rounder.roundCents(.29d, Rounder.Mode.FLOOR), 0d);
+        assertEquals(1.15d, Rounder.roundCents(1.15d, Rounder.Mode.FLOOR), 0d);
+        assertEquals(3.33d, Rounder.roundCents(10d / 3d, Rounder.Mode.FLOOR), 0d);
+        assertEquals(6.66d, Rounder.roundCents(20d / 3d, Rounder.Mode.FLOOR), 0d);
+        assertEquals(-.01d, Rounder.roundCents(-.001d, Rounder.Mode.FLOOR), 0d);
+    }
+
+    /**
+     * Asserts whether rounding to cents selects the nearest cent and the even cent on ties.
+     */
+    @Test public final void testRoundCentsHalfEven() {
+
+        assertEquals(6.67d, Rounder.roundCents(20d / 3d, Rounder.Mode.HALF_EVEN), 0d);
+        assertEquals(3.33d, Rounder.roundCents(10d / 3d, Rounder.Mode.HALF_EVEN), 0d);
+        assertEquals(.12d, Rounder.roundCents(.125d, Rounder.Mode.HALF_EVEN), 0d);
+        assertEquals(.38d, Rounder.roundCents(.375d, Rounder.Mode.HALF_EVEN), 0d);
+        assertEquals(.29d, Rounder.roundCents(.29d, Rounder.Mode.HALF_EVEN), 0d);
+    }
+
+    /**
+     * Asserts whether leaving values unrounded returns them unchanged and whether scaling
+     * produces whole units of the last decimal place.
+     */
+    @Test public final void testRoundNoneAndScaled() {
+
+        assertEquals(10d / 3d, Rounder.roundCents(10d / 3d, Rounder.Mode.NONE), 0d);
+        assertEquals(29L, Rounder.toScaled(.29d, Rounder.CENTS, Rounder.Mode.FLOOR));
+        assertEquals(1235L, Rounder.toScaled(1.2346d, 3, Rounder.Mode.HALF_EVEN));
+        assertEquals(1234L, Rounder.toScaled(1.2346d, 3, Rounder.Mode.FLOOR));
+
+        try {
+            Rounder.round(1d, 16, Rounder.Mode.FLOOR);
+            fail(); // Exception not thrown
+        } catch (Throwable e) { assertTrue(e instanceof IllegalArgumentException); }
+    }
+}
@@ -3,7 +3,9 @@ package art.coded.rateraid;
 import android.content.Context;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 import androidx.test.platform.app.InstrumentationRegistry;
+import android.view.inputmethod.EditorInfo;
 import android.widget.Button;
+import android.widget.EditText;
 
 import art.coded.calibrater.Calibrater;
 
@@ -16,6 +18,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test methods for the {@link Rateraid} class.
@@ -33,6 +37,7 @@ public class RateraidInstrumentedTest {
     private Rateraid.ObjectSeries mObjectSeries;
 
     private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double PRECISION_ERROR = Math.pow(10, -PRECISION);
 
     /**
      * Initializes controllers to be tested from the instrumentation context
@@ -157,6 +162,52 @@ public class RateraidInstrumentedTest {
         assertEquals(2872, mCount);
     }
 
+    /**
+     * Asserts whether adjustments staged in a batch leave the values untouched until committed,
+     * then are applied together with a single invocation of the user-defined callback.
+     */
+    @Test public final void testPercentSeriesBatchCommitSingleCallback() {
+        List<Double> percents = Arrays.asList(.25d, .25d, .25d, .25d);
+        mCount = 0;
+        mValueSeries = Rateraid.withValues(percents, .05d, PRECISION, clickedView -> mCount++);
+        mValueSeries.addShifters(mIncrementButton, mDecrementButton, 0);
+
+        mValueSeries.beginBatch();
+        mIncrementButton.performClick();
+        mIncrementButton.performClick();
+        mValueSeries.shift(1, .05d);
+        assertEquals(.25d, percents.get(0), 0d);
+        assertEquals(0, mCount);
+
+        assertTrue(mValueSeries.commit());
+        assertEquals(1, mCount);
+        assertEquals(.35d, percents.get(0), PRECISION_ERROR);
+        assertEquals(.3d, percents.get(1), PRECISION_ERROR);
+        assertEquals(.175d, percents.get(2), PRECISION_ERROR);
+        assertEquals(.175d, percents.get(3), PRECISION_ERROR);
+        assertFalse(mValueSeries.commit());
+    }
+
+    /**
+     * Asserts whether adjustments staged past the limit of a value are limited on staging
+     * so that an entry derived from the staged value commits without exceeding the limit.
+     */
+    @Test public final void testPercentSeriesBatchEditorWithinLimit() {
+        List<Double> percents = Arrays.asList(.05d, .35d, .3d, .3d);
+        mValueSeries = Rateraid.withValues(percents, .01d, PRECISION, null);
+        EditText editor = new EditText(mContext);
+        mValueSeries.addShifters(mIncrementButton, mDecrementButton, 0).addEditor(editor, 0, null);
+
+        mValueSeries.beginBatch();
+        for (int i = 0; i < 10; i++) mDecrementButton.performClick();
+        editor.setText("1");
+        editor.onEditorAction(EditorInfo.IME_ACTION_DONE);
+
+        assertTrue(mValueSeries.commit());
+        assertEquals(1d, percents.get(0), PRECISION_ERROR);
+        for (int index = 1; index < 4; index++) assertEquals(0d, percents.get(index), PRECISION_ERROR);
+    }
+
     /**
      * Asserts whether adding, then incrementing and decrementing from, controllers through the
      * range of possible values assigns the expected value to each array element associated with the
@@ -12,6 +12,7 @@ import art.coded.calibrater.TypeConverters;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import androidx.annotation.Nullable;
@@ -133,6 +134,8 @@ public class Rateraid {
         // Instance fields of this class
         private Rateraid mRateraid;
         private List<Double> mPercents;
+        private double[] mBuffer;
+        private Batch mBatch;
         private double mMagnitude;
         private int mPrecision;
         private View.OnClickListener mClickListener;
@@ -165,17 +168,88 @@ public class Rateraid {
          * @return {@link ValueSeries} from which to chain view binding method calls
          */
         public ValueSeries addShifters(View incrementButton, View decrementButton, int index) {
-            incrementButton.setOnClickListener(clickedView -> {
-                Calibrater.shiftRatings(mPercents, index, mMagnitude, mPrecision);
-                if (mClickListener != null) mClickListener.onClick(incrementButton);
-            });
-            decrementButton.setOnClickListener(clickedView -> {
-                Calibrater.shiftRatings(mPercents, index, -mMagnitude, mPrecision);
-                if (mClickListener != null) mClickListener.onClick(decrementButton);
-            });
+            incrementButton.setOnClickListener(clickedView -> adjust(index, mMagnitude, incrementButton));
+            decrementButton.setOnClickListener(clickedView -> adjust(index, -mMagnitude, decrementButton));
             return this;
         }
 
+        /**
+         * Adjust the specified element of the percent series, or stage the adjustment
+         * if a batch has been begun.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @return {@link ValueSeries} from which to chain adjustments
+         */
+        public ValueSeries shift(int index, double magnitude) {
+            adjust(index, magnitude, null);
+            return this;
+        }
+
+        /**
+         * Begin staging adjustments to be applied together in a single calibration on {@link #commit()}
+         * instead of recalibrating and notifying the click listener on each adjustment.
+         * @return {@link ValueSeries} from which to chain adjustments
+         */
+        public ValueSeries beginBatch() {
+            if (mBatch == null) mBatch = new Batch();
+            return this;
+        }
+
+        /**
+         * Apply the adjustments staged since {@link #beginBatch()} in a single calibration, then notify
+         * the click listener once with the last view to have staged an adjustment.
+         * @return true if values were adjusted; false otherwise
+         */
+        public boolean commit() {
+            if (mBatch == null) return false;
+            View lastView = mBatch.mLastView;
+            boolean result = applyBatch();
+            mBatch = null;
+            if (result && mClickListener != null) mClickListener.onClick(lastView);
+            return result;
+        }
+
+        /**
+         * Apply and clear any staged adjustments without closing the batch.
+         * @return true if values were adjusted; false otherwise
+         */
+        private boolean applyBatch() {
+            if (mBatch == null || mBatch.mCount == 0) return false;
+            mBuffer = TypeConverters.copyListDoubleToArrayDouble(mPercents, mBuffer);
+            boolean result = Calibrater.applyShifts(mBuffer, mPercents.size(),
+                    mBatch.mIndices, mBatch.mMagnitudes, mBatch.mCount, mPrecision);
+            if (result) TypeConverters.copyArrayDoubleToListDouble(mBuffer, mPercents);
+            mBatch.clear();
+            return result;
+        }
+
+        /**
+         * Stage the adjustment if a batch has been begun, otherwise apply it and notify the click listener.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @param view controller from which the adjustment originated; null if none
+         */
+        private void adjust(int index, double magnitude, @Nullable View view) {
+            if (mBatch != null) mBatch.add(index, magnitude, mPercents.get(index), view);
+            else {
+                shiftBuffered(index, magnitude);
+                if (mClickListener != null) mClickListener.onClick(view);
+            }
+        }
+
+        /**
+         * Shift the specified element through the reusable buffer of this series so that
+         * repeated adjustments only box the values that were changed.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         */
+        private void shiftBuffered(int index, double magnitude) {
+            mBuffer = TypeConverters.copyListDoubleToArrayDouble(mPercents, mBuffer);
+            if (Calibrater.shiftRatings(mBuffer, mPercents.size(), index, magnitude, mPrecision)) {
+                TypeConverters.copyArrayDoubleToListDouble(mBuffer, mPercents);
+            }
+        }
+
         /**
          * Define the controller by which the specified element of the percent series is invalidated.
          * @param removeButton view that, when clicked, should remove the targeted element
@@ -186,6 +260,7 @@ public class Rateraid {
         public ValueSeries addRemover(
                 View removeButton, int index, @Nullable DialogInterface dialog) {
             removeButton.setOnClickListener(clickedView -> {
+                applyBatch(); // staged indices would be invalidated by removal
                 Calibrater.removeRating(mPercents, index, mPrecision);
 
                 if (dialog != null) dialog.dismiss();
@@ -210,7 +285,7 @@ public class Rateraid {
                     case EditorInfo.IME_ACTION_DONE:
                         final NumberFormat percentFormatter = NumberFormat.getPercentInstance();
                         try {
-                            double percent = mPercents.get(index);
+                            double percent = mPercents.get(index) + pending(mBatch, index);
                             String viewText = onEditorActionView.getText().toString();
                             if (viewText.contains("%")) percent = percentFormatter.parse(viewText).doubleValue();
                             else if (!viewText.isEmpty()) percent = Double.parseDouble(viewText);
@@ -219,10 +294,9 @@ public class Rateraid {
                                 return false;
                             }
                             if (percent < 0d || percent > 1d) return false;
-                            double magnitude = percent - mPercents.get(index);
-                            Calibrater.shiftRatings(mPercents, index, magnitude, mPrecision);
+                            double magnitude = percent - mPercents.get(index) - pending(mBatch, index);
                             if (imm != null) imm.toggleSoftInput(0, 0);
-                            if (mClickListener != null) mClickListener.onClick(valueEditor);
+                            adjust(index, magnitude, valueEditor);
                         } catch (ParseException e) {
                             throw new NumberFormatException();
                         } return true;
@@ -252,6 +326,8 @@ public class Rateraid {
         // Instance fields of this class
         private Rateraid mRateraid;
         private List<T> mRateables;
+        private double[] mBuffer;
+        private Batch mBatch;
         private double mMagnitude;
         private int mPrecision;
         private View.OnClickListener mClickListener;
@@ -284,17 +360,75 @@ public class Rateraid {
          * @return {@link ObjectSeries} from which to chain view binding method calls
          */
         public ObjectSeries addShifters(View incrementButton, View decrementButton, int index) {
-            incrementButton.setOnClickListener(clickedView -> {
-                shiftRatings(mRateables, index, mMagnitude, mPrecision);
-                if (mClickListener != null) mClickListener.onClick(incrementButton);
-            });
-            decrementButton.setOnClickListener(clickedView -> {
-                shiftRatings(mRateables, index, -mMagnitude, mPrecision);
-                if (mClickListener != null) mClickListener.onClick(decrementButton);
-            });
+            incrementButton.setOnClickListener(clickedView -> adjust(index, mMagnitude, incrementButton));
+            decrementButton.setOnClickListener(clickedView -> adjust(index, -mMagnitude, decrementButton));
             return this;
         }
 
+        /**
+         * Adjust the specified element of the percent series, or stage the adjustment
+         * if a batch has been begun.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @return {@link ObjectSeries} from which to chain adjustments
+         */
+        public ObjectSeries<T> shift(int index, double magnitude) {
+            adjust(index, magnitude, null);
+            return this;
+        }
+
+        /**
+         * Begin staging adjustments to be applied together in a single calibration on {@link #commit()}
+         * instead of recalibrating and notifying the click listener on each adjustment.
+         * @return {@link ObjectSeries} from which to chain adjustments
+         */
+        public ObjectSeries<T> beginBatch() {
+            if (mBatch == null) mBatch = new Batch();
+            return this;
+        }
+
+        /**
+         * Apply the adjustments staged since {@link #beginBatch()} in a single calibration, then notify
+         * the click listener once with the last view to have staged an adjustment.
+         * @return true if values were adjusted; false otherwise
+         */
+        public boolean commit() {
+            if (mBatch == null) return false;
+            View lastView = mBatch.mLastView;
+            boolean result = applyBatch();
+            mBatch = null;
+            if (result && mClickListener != null) mClickListener.onClick(lastView);
+            return result;
+        }
+
+        /**
+         * Apply and clear any staged adjustments without closing the batch.
+         * @return true if values were adjusted; false otherwise
+         */
+        private boolean applyBatch() {
+            if (mBatch == null || mBatch.mCount == 0) return false;
+            mBuffer = readPercents(mRateables, mBuffer);
+            boolean result = Calibrater.applyShifts(mBuffer, mRateables.size(),
+                    mBatch.mIndices, mBatch.mMagnitudes, mBatch.mCount, mPrecision);
+            if (result) writePercents(mRateables, mBuffer);
+            mBatch.clear();
+            return result;
+        }
+
+        /**
+         * Stage the adjustment if a batch has been begun, otherwise apply it and notify the click listener.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @param view controller from which the adjustment originated; null if none
+         */
+        private void adjust(int index, double magnitude, @Nullable View view) {
+            if (mBatch != null) mBatch.add(index, magnitude, mRateables.get(index).getPercent(), view);
+            else {
+                mBuffer = shiftRatings(mRateables, mBuffer, index, magnitude, mPrecision);
+                if (mClickListener != null) mClickListener.onClick(view);
+            }
+        }
+
         /**
          * Define the controller by which the specified element of the percent series is removed.
          * @param removeButton view that, when clicked, should remove the targeted element
@@ -305,6 +439,7 @@ public class Rateraid {
         public ObjectSeries addRemover(
                 View removeButton, int index, @Nullable DialogInterface dialog) {
             removeButton.setOnClickListener(clickedView -> {
+                applyBatch(); // staged indices would be invalidated by removal
                 removeRating(mRateables, index, mPrecision);
 
                 if (dialog != null) dialog.dismiss();
@@ -329,7 +464,7 @@ public class Rateraid {
                     case EditorInfo.IME_ACTION_DONE:
                         final NumberFormat percentFormatter = NumberFormat.getPercentInstance();
                         try {
-                            double percent = mRateables.get(index).getPercent();
+                            double percent = mRateables.get(index).getPercent() + pending(mBatch, index);
                             String viewText = onEditorActionView.getText().toString();
                             if (viewText.contains("%")) percent = percentFormatter.parse(viewText).doubleValue();
                             else if (!viewText.isEmpty()) percent = Double.parseDouble(viewText);
@@ -338,10 +473,9 @@ public class Rateraid {
                                 return false;
                             }
                             if (percent < 0d || percent > 1d) return false;
-                            double magnitude = percent - mRateables.get(index).getPercent();
-                            shiftRatings(mRateables, index, magnitude, mPrecision);
+                            double magnitude = percent - mRateables.get(index).getPercent() - pending(mBatch, index);
                             if (imm != null) imm.toggleSoftInput(0, 0);
-                            if (mClickListener != null) mClickListener.onClick(valueEditor);
+                            adjust(index, magnitude, valueEditor);
                         } catch (ParseException e) {
                             throw new NumberFormatException();
                         } return true;
@@ -376,11 +510,49 @@ public class Rateraid {
      */
     public static <T extends Rateable> boolean shiftRatings(
             List<T> objects, int index, double magnitude, int precision) {
-        boolean result;
-        List<Double> percents = new ArrayList<>();
-        for (Rateable object : objects) percents.add(object.getPercent());
-        result = Calibrater.shiftRatings(percents, index, magnitude, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        double[] percents = readPercents(objects, null);
+        boolean result = Calibrater.shiftRatings(percents, objects.size(), index, magnitude, precision);
+        if (result) writePercents(objects, percents);
+        return result;
+    }
+
+    /**
+     * Increments or decrements an element of a {@code List} of {@link Rateable} as specified by
+     * {@link #shiftRatings(List, int, double, int)} while staging the percent values in the
+     * specified buffer, which is only replaced if too small to hold every value.
+     * @param objects {@link Rateable} {@code List} elements to be adjusted if not proportionate
+     * @param buffer {@code double} array to reuse for staging the percent values; may be null
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return the buffer holding the adjusted percent values for reuse on the next adjustment
+     */
+    private static <T extends Rateable> double[] shiftRatings(
+            List<T> objects, @Nullable double[] buffer, int index, double magnitude, int precision) {
+        buffer = readPercents(objects, buffer);
+        if (Calibrater.shiftRatings(buffer, objects.size(), index, magnitude, precision)) {
+            writePercents(objects, buffer);
+        } return buffer;
+    }
+
+    /**
+     * Increments or decrements several elements of a {@code List} of {@link Rateable} at once
+     * in a single calibration as specified by {@link Calibrater#applyShifts(double[], int[], double[], int)}.
+     * @param objects {@link Rateable} {@code List} elements to be adjusted if not proportionate
+     * @param indices indices of the elements to be adjusted, each paired with a magnitude
+     * @param magnitudes amounts of the adjustments; non-zero values should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @return true if any non-zero magnitude was applied and false otherwise
+     */
+    public static <T extends Rateable> boolean applyShifts(
+            List<T> objects, int[] indices, double[] magnitudes, int precision) {
+        if (indices.length != magnitudes.length) {
+            throw new IllegalArgumentException("Parameter lengths do not match");
+        }
+        double[] percents = readPercents(objects, null);
+        boolean result = Calibrater.applyShifts(
+                percents, objects.size(), indices, magnitudes, indices.length, precision);
+        if (result) writePercents(objects, percents);
         return result;
     }
 
@@ -393,11 +565,9 @@ public class Rateraid {
      */
     public static <T extends Rateable> boolean resetRatings(
             List<T> objects, boolean forceReset, int precision) {
-        boolean result;
-        List<Double> percents = new ArrayList<>();
-        for (Rateable object : objects) percents.add(object.getPercent());
-        result = Calibrater.resetRatings(percents, forceReset, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        double[] percents = readPercents(objects, null);
+        boolean result = Calibrater.resetRatings(percents, objects.size(), forceReset, precision);
+        if (result) writePercents(objects, percents);
         return result;
     }
 
@@ -426,11 +596,82 @@ public class Rateraid {
      */
     public static <T extends Rateable> boolean recalibrateRatings(
             List<T> objects, boolean forceReset, int precision) {
-        boolean result;
-        List<Double> percents = new ArrayList<>();
-        for (Rateable object : objects) percents.add(object.getPercent());
-        result = Calibrater.recalibrateRatings(percents, forceReset, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        double[] percents = readPercents(objects, null);
+        boolean result = Calibrater.recalibrateRatings(percents, objects.size(), forceReset, precision);
+        if (result) writePercents(objects, percents);
         return result;
     }
+
+    /**
+     * Copies the percent values of a {@code List} of {@link Rateable} into the leading elements
+     * of a {@code double} array buffer, generating a new buffer if none is large enough.
+     * @param objects {@code List} of {@link Rateable} from which to read the percent values
+     * @param buffer {@code double} array to be reused if large enough; may be null
+     * @return the buffer holding the percent values
+     */
+    private static <T extends Rateable> double[] readPercents(List<T> objects, @Nullable double[] buffer) {
+        if (buffer == null || buffer.length < objects.size()) buffer = new double[objects.size()];
+        for (int i = 0; i < objects.size(); i++) buffer[i] = objects.get(i).getPercent();
+        return buffer;
+    }
+
+    /**
+     * Assigns the leading elements of a {@code double} array buffer to the percent values
+     * of a {@code List} of {@link Rateable}.
+     * @param objects {@code List} of {@link Rateable} to which to write the percent values
+     * @param buffer {@code double} array holding at least as many values as there are objects
+     */
+    private static <T extends Rateable> void writePercents(List<T> objects, double[] buffer) {
+        for (int i = 0; i < objects.size(); i++) objects.get(i).setPercent(buffer[i]);
+    }
+
+    /**
+     * Sums the magnitudes staged for the specified element.
+     * @param batch {@link Batch} of staged adjustments; may be null
+     * @param index location of the value with staged adjustments
+     * @return amount by which the value will be adjusted on commit
+     */
+    private static double pending(@Nullable Batch batch, int index) {
+        if (batch == null) return 0d;
+        double magnitude = 0d;
+        for (int i = 0; i < batch.mCount; i++) if (batch.mIndices[i] == index) magnitude += batch.mMagnitudes[i];
+        return magnitude;
+    }
+
+    /**
+     * Adjustments staged for a single calibration, stored in growable parallel arrays.
+     */
+    private static class Batch {
+
+        private int[] mIndices = new int[8];
+        private double[] mMagnitudes = new double[8];
+        private int mCount;
+        private View mLastView;
+
+        /**
+         * Stage an adjustment, growing the arrays if full. The adjustment is limited so that
+         * the value with its staged adjustments remains within 0 and 1, as it would if applied
+         * on staging, so that no magnitude derived from the staged value exceeds 1 or -1.
+         * @param index location of the value to be adjusted
+         * @param magnitude amount of the adjustment
+         * @param value value to be adjusted, before any staged adjustment
+         * @param view controller from which the adjustment originated; null if none
+         */
+        private void add(int index, double magnitude, double value, @Nullable View view) {
+            double staged = value + pending(this, index);
+            magnitude = Math.min(1d, Math.max(0d, staged + magnitude)) - staged;
+            if (mCount == mIndices.length) {
+                mIndices = Arrays.copyOf(mIndices, mCount * 2);
+                mMagnitudes = Arrays.copyOf(mMagnitudes, mCount * 2);
+            }
+            mIndices[mCount] = index;
+            mMagnitudes[mCount++] = magnitude;
+            if (view != null) mLastView = view;
+        }
+
+        /**
+         * Discard all staged adjustments.
+         */
+        private void clear() { mCount = 0; }
+    }
 }
\ No newline at end of file